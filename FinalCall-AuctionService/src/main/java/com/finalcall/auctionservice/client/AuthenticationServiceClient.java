@@ -4,9 +4,25 @@ import com.finalcall.auctionservice.dto.UserDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(name = "authentication-service", url = "${authentication.service.url}")
 public interface AuthenticationServiceClient {
+
+    /** Largest batch AuthenticationService accepts. */
+    int MAX_BATCH_SIZE = 1000;
+
     @GetMapping("/api/users/{userId}")
     UserDTO getUserById(@PathVariable("userId") Long userId);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves public details of many users in one call; unknown IDs are omitted.
+     * Pass distinct IDs, at most {@value #MAX_BATCH_SIZE}.
+     */
+    @PostMapping("/api/users/batch")
+    List<UserDTO> getUsersByIds(@RequestBody Collection<Long> userIds);
+}
@@ -0,0 +1,44 @@
+// src/main/java/com/finalcall/auctionservice/client/CoalescingCatalogueClient.java
+
+package com.finalcall.auctionservice.client;
+
+import com.finalcall.auctionservice.dto.ItemDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link CatalogueServiceClient} reads with concurrent identical calls
+ * coalesced into one request; see {@link SingleFlight}.
+ */
+@Component
+public class CoalescingCatalogueClient {
+
+    private final CatalogueServiceClient catalogueServiceClient;
+    private final SingleFlight<Long, ItemDTO> getItemById;
+
+    public CoalescingCatalogueClient(CatalogueServiceClient catalogueServiceClient,
+                                     @Value("${coalescing.catalogue.get-item-by-id.enabled:true}") boolean getItemByIdEnabled) {
+        this.catalogueServiceClient = catalogueServiceClient;
+        this.getItemById = new SingleFlight<>("getItemById", getItemByIdEnabled);
+    }
+
+    /**
+     * Retrieves an item, sharing the request with concurrent callers for the same item.
+     *
+     * @param itemId The ID of the item.
+     * @return The item; shared, so do not modify it.
+     */
+    public ItemDTO getItemById(Long itemId) {
+        return getItemById.execute(itemId, () -> catalogueServiceClient.getItemById(itemId));
+    }
+
+    /**
+     * Reports call and collapse counts per method.
+     */
+    public List<Map<String, Object>> getStats() {
+        return List.of(getItemById.getStats());
+    }
+}
@@ -0,0 +1,28 @@
+// src/main/java/com/finalcall/auctionservice/cluster/BroadcastBus.java
+
+package com.finalcall.auctionservice.cluster;
+
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.Bid;
+
+import java.util.List;
+
+/**
+ * Carries committed auction updates to the WebSocket dispatcher of every
+ * service instance, so watchers see a bid whichever replica accepted it and
+ * whichever replica they are connected to.
+ * <p>
+ * The implementation is chosen with {@code auction.bus.type}: {@code local}
+ * (the default) for a single instance, or {@code tcp} for a peer mesh.
+ */
+public interface BroadcastBus {
+
+    /**
+     * Publishes an update once; every instance, including this one, fans it
+     * out to its own subscribers.
+     *
+     * @param auction A detached snapshot of the auction's committed state.
+     * @param bids    The bids accepted with the update; may be empty.
+     */
+    void publish(Auction auction, List<Bid> bids);
+}
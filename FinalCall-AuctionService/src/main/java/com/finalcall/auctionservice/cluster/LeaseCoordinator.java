@@ -0,0 +1,211 @@
+// src/main/java/com/finalcall/auctionservice/cluster/LeaseCoordinator.java
+
+package com.finalcall.auctionservice.cluster;
+
+import com.finalcall.auctionservice.entity.SchedulerLease;
+import com.finalcall.auctionservice.event.PartitionsAcquiredEvent;
+import com.finalcall.auctionservice.repository.SchedulerLeaseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Splits scheduled work between service instances using leases stored in the
+ * {@code scheduler_leases} table.
+ * <p>
+ * Auctions are assigned to a fixed number of partitions by ID. Each instance
+ * renews the leases it holds and claims free or expired ones up to its fair
+ * share, which is the partition count divided by the number of live owners.
+ * An instance holding more than its share hands the surplus back, so a new
+ * replica picks up work within a couple of renewal rounds. If an instance
+ * dies, its leases expire and the others take them over.
+ * <p>
+ * Ownership is judged against each instance's own clock, so lease durations
+ * must be well above the expected clock skew between replicas.
+ */
+@Component
+public class LeaseCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaseCoordinator.class);
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final int partitionCount;
+    private final long leaseMillis;
+    private final long renewIntervalMillis;
+    private final String instanceId;
+
+    // Partitions held, and until when this instance may act on them
+    private volatile Set<Integer> owned = Set.of();
+    private volatile long validUntilMillis;
+
+    public LeaseCoordinator(SchedulerLeaseRepository leaseRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${auction.lease.partitions:16}") int partitionCount,
+                            @Value("${auction.lease.duration-ms:15000}") long leaseMillis,
+                            @Value("${auction.lease.renew-interval-ms:5000}") long renewIntervalMillis) {
+        this.leaseRepository = leaseRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.partitionCount = partitionCount;
+        this.leaseMillis = leaseMillis;
+        this.renewIntervalMillis = renewIntervalMillis;
+        this.instanceId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Creates the lease rows and claims an initial share before the scheduled
+     * jobs start, so they know which auctions belong to this instance.
+     */
+    @PostConstruct
+    public void init() {
+        for (int partition = 0; partition < partitionCount; partition++) {
+            if (!leaseRepository.existsById(partition)) {
+                try {
+                    leaseRepository.save(new SchedulerLease(partition));
+                } catch (DataIntegrityViolationException e) {
+                    // Another instance created it first
+                }
+            }
+        }
+        owned = balance();
+        logger.info("Instance {} holds {} of {} scheduler partitions", instanceId, owned.size(), partitionCount);
+    }
+
+    /**
+     * Renews held leases, sheds or claims partitions towards a fair share and
+     * announces newly acquired partitions.
+     */
+    @Scheduled(fixedDelayString = "${auction.lease.renew-interval-ms:5000}",
+               initialDelayString = "${auction.lease.renew-interval-ms:5000}")
+    public void renew() {
+        try {
+            Set<Integer> previous = owned;
+            Set<Integer> current = balance();
+            owned = current;
+
+            Set<Integer> acquired = new HashSet<>(current);
+            acquired.removeAll(previous);
+            if (!acquired.isEmpty()) {
+                logger.info("Instance {} acquired scheduler partitions {}", instanceId, acquired);
+                eventPublisher.publishEvent(new PartitionsAcquiredEvent(this, acquired));
+            }
+        } catch (RuntimeException e) {
+            // Keep acting on current leases until they lapse; validUntilMillis stops us after that
+            logger.warn("Failed to renew scheduler leases", e);
+        }
+    }
+
+    private Set<Integer> balance() {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusNanos(leaseMillis * 1_000_000);
+
+        Set<Integer> held = transaction.execute(status -> {
+            List<SchedulerLease> leases = leaseRepository.findAll();
+            Set<String> liveOwners = new HashSet<>();
+            liveOwners.add(instanceId);
+            for (SchedulerLease lease : leases) {
+                if (lease.getOwner() != null && lease.getExpiresAt() != null && lease.getExpiresAt().isAfter(now)) {
+                    liveOwners.add(lease.getOwner());
+                }
+            }
+            int fairShare = (partitionCount + liveOwners.size() - 1) / liveOwners.size();
+
+            Set<Integer> result = new TreeSet<>();
+            // Renew what we hold first, then claim free or expired partitions
+            leases.sort(Comparator.comparing(lease -> !instanceId.equals(lease.getOwner())));
+            for (SchedulerLease lease : leases) {
+                Integer partition = lease.getPartitionId();
+                if (partition >= partitionCount) {
+                    continue;
+                }
+                boolean mine = instanceId.equals(lease.getOwner());
+                if (result.size() >= fairShare) {
+                    if (mine) {
+                        leaseRepository.release(partition, instanceId);
+                    }
+                    continue;
+                }
+                if (leaseRepository.acquire(partition, instanceId, expiresAt, now) > 0) {
+                    result.add(partition);
+                }
+            }
+            return result;
+        });
+
+        // Stop acting a renewal interval before the lease could be taken over
+        validUntilMillis = started + leaseMillis - renewIntervalMillis;
+        return Collections.unmodifiableSet(held);
+    }
+
+    /**
+     * Indicates whether this instance is responsible for the auction's scheduled work.
+     *
+     * @param auctionId The ID of the auction.
+     * @return true if this instance holds a valid lease on the auction's partition.
+     */
+    public boolean owns(Long auctionId) {
+        return System.currentTimeMillis() < validUntilMillis && owned.contains(partitionOf(auctionId));
+    }
+
+    /**
+     * Retrieves the partitions this instance currently holds valid leases on.
+     *
+     * @return The owned partition IDs; empty once the leases have lapsed.
+     */
+    public Set<Integer> getOwnedPartitions() {
+        return System.currentTimeMillis() < validUntilMillis ? owned : Set.of();
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * Maps an auction to its partition. Matches {@code MOD(id, partitionCount)} in queries.
+     *
+     * @param auctionId The ID of the auction.
+     * @return The partition ID.
+     */
+    public int partitionOf(Long auctionId) {
+        return (int) Math.floorMod(auctionId, (long) partitionCount);
+    }
+
+    /**
+     * Hands all leases back on shutdown so other instances take over immediately.
+     */
+    @PreDestroy
+    public void shutdown() {
+        Set<Integer> held = owned;
+        owned = Set.of();
+        try {
+            transaction.executeWithoutResult(status -> held.forEach(partition -> leaseRepository.release(partition, instanceId)));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to release scheduler leases; they will expire", e);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "auction-service";
+        }
+    }
+}
@@ -0,0 +1,30 @@
+// src/main/java/com/finalcall/auctionservice/cluster/LocalBroadcastBus.java
+
+package com.finalcall.auctionservice.cluster;
+
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.Bid;
+import com.finalcall.auctionservice.websocket.AuctionEventDispatcher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Broadcast bus for a single instance: updates go straight to the local dispatcher.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.bus.type", havingValue = "local", matchIfMissing = true)
+public class LocalBroadcastBus implements BroadcastBus {
+
+    private final AuctionEventDispatcher auctionEventDispatcher;
+
+    public LocalBroadcastBus(AuctionEventDispatcher auctionEventDispatcher) {
+        this.auctionEventDispatcher = auctionEventDispatcher;
+    }
+
+    @Override
+    public void publish(Auction auction, List<Bid> bids) {
+        auctionEventDispatcher.publish(auction, bids);
+    }
+}
@@ -0,0 +1,373 @@
+// src/main/java/com/finalcall/auctionservice/cluster/PeerMeshBroadcastBus.java
+
+package com.finalcall.auctionservice.cluster;
+
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.Bid;
+import com.finalcall.auctionservice.journal.JournalEntry;
+import com.finalcall.auctionservice.websocket.AuctionEventDispatcher;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Broadcast bus over a full mesh of TCP connections between service instances.
+ * <p>
+ * Every instance listens on {@code auction.bus.bind-address} and
+ * {@code auction.bus.port} and connects to each address in
+ * {@code auction.bus.peers}. A published update is dispatched
+ * locally and encoded once, in the journal's binary format, and the same bytes
+ * are queued for every peer; a peer dispatches what it receives locally and
+ * does not forward it. Several instances can run on one machine with
+ * different ports.
+ * <p>
+ * Delivery is best effort: each peer has a bounded send queue, updates are
+ * dropped while it is full or the peer is unreachable, and the sender
+ * reconnects in the background. Updates from one instance arrive in order,
+ * but updates for one auction accepted on different instances can arrive in
+ * either order, so every update carries its {@code Auction.version} and one
+ * at or below the last version applied for its auction, local or remote, is
+ * skipped. Bid IDs are not carried.
+ * <p>
+ * Peers authenticate with the shared {@code auction.bus.secret}: the
+ * listener sends a random challenge and accepts updates only after the
+ * connecting peer answers with its HMAC-SHA256 under the secret. Traffic is
+ * not encrypted, so the mesh belongs on a private network. Inbound
+ * connections are capped at {@code auction.bus.max-connections}, each with
+ * one reader thread, and must complete the handshake within a few seconds.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.bus.type", havingValue = "tcp")
+public class PeerMeshBroadcastBus implements BroadcastBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(PeerMeshBroadcastBus.class);
+
+    // Sent first on every connection so stray clients are rejected
+    private static final int MAGIC = 0x46434231;
+    private static final int MAX_FRAME_SIZE = 1024 * 1024;
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+    private static final int HANDSHAKE_TIMEOUT_MILLIS = 5000;
+    private static final int CHALLENGE_SIZE = 32;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final long MAX_TRACKED_AUCTIONS = 100_000;
+    private static final long VERSION_RETENTION_MINUTES = 10;
+
+    private final AuctionEventDispatcher auctionEventDispatcher;
+    private final String bindAddress;
+    private final int port;
+    private final SecretKeySpec secret;
+    private final Semaphore connections;
+    private final SecureRandom random = new SecureRandom();
+    private final List<Peer> peers = new ArrayList<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+
+    // Last version applied per auction; an auction quiet for longer cannot have a late update in flight
+    private final Cache<Long, Long> appliedVersions = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_AUCTIONS)
+            .expireAfterWrite(VERSION_RETENTION_MINUTES, TimeUnit.MINUTES)
+            .build();
+    private ServerSocket serverSocket;
+    private volatile boolean running = true;
+
+    public PeerMeshBroadcastBus(AuctionEventDispatcher auctionEventDispatcher,
+                                @Value("${auction.bus.bind-address:127.0.0.1}") String bindAddress,
+                                @Value("${auction.bus.port:9184}") int port,
+                                @Value("${auction.bus.secret:}") String secret,
+                                @Value("${auction.bus.max-connections:16}") int maxConnections,
+                                @Value("${auction.bus.peers:}") List<String> peerAddresses,
+                                @Value("${auction.bus.queue-size:10000}") int queueSize) {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("auction.bus.secret must be set for the tcp broadcast bus");
+        }
+        this.auctionEventDispatcher = auctionEventDispatcher;
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.secret = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+        this.connections = new Semaphore(Math.max(1, maxConnections));
+        for (String address : peerAddresses) {
+            if (!address.isBlank()) {
+                peers.add(new Peer(address.trim(), queueSize));
+            }
+        }
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(bindAddress, port));
+        Thread acceptor = new Thread(this::accept, "bus-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        for (Peer peer : peers) {
+            peer.thread.start();
+        }
+        logger.info("Broadcast bus listening on {}:{} with peers {}", bindAddress, port, peers);
+    }
+
+    @Override
+    public void publish(Auction auction, List<Bid> bids) {
+        if (!apply(auction)) {
+            return;
+        }
+        auctionEventDispatcher.publish(auction, bids);
+        if (peers.isEmpty()) {
+            return;
+        }
+        byte[] frame = new JournalEntry(auction, bids).encode();
+        for (Peer peer : peers) {
+            if (!peer.queue.offer(frame)) {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns how many updates were not queued because a peer's queue was full.
+     *
+     * @return The drop count since startup.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Returns how many inbound connections were refused, over the connection
+     * limit or for failing the handshake.
+     *
+     * @return The rejection count since startup.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Returns how many updates were skipped because a newer version of their
+     * auction had already been applied.
+     *
+     * @return The stale update count since startup.
+     */
+    public long getStaleCount() {
+        return stale.get();
+    }
+
+    /**
+     * Records an update's auction version, returning whether it is newer than
+     * every version already applied for that auction. Updates without a
+     * version are always applied.
+     */
+    private boolean apply(Auction auction) {
+        Long version = auction.getVersion();
+        if (version == null) {
+            return true;
+        }
+        boolean[] newer = new boolean[1];
+        appliedVersions.asMap().compute(auction.getId(), (auctionId, applied) -> {
+            newer[0] = applied == null || version > applied;
+            return newer[0] ? version : applied;
+        });
+        if (!newer[0]) {
+            stale.incrementAndGet();
+        }
+        return newer[0];
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                if (!connections.tryAcquire()) {
+                    rejected.incrementAndGet();
+                    logger.warn("Refused broadcast bus connection from {}: connection limit reached",
+                            socket.getRemoteSocketAddress());
+                    socket.close();
+                    continue;
+                }
+                Thread reader = new Thread(() -> {
+                    try {
+                        read(socket);
+                    } finally {
+                        connections.release();
+                    }
+                }, "bus-reader-" + socket.getRemoteSocketAddress());
+                reader.setDaemon(true);
+                reader.start();
+            } catch (IOException e) {
+                if (running) {
+                    logger.warn("Broadcast bus failed to accept a connection", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Authenticates an inbound connection, then dispatches every update
+     * received on it until it closes.
+     */
+    private void read(Socket socket) {
+        try (socket; DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MILLIS);
+            byte[] challenge = new byte[CHALLENGE_SIZE];
+            random.nextBytes(challenge);
+            OutputStream out = socket.getOutputStream();
+            out.write(challenge);
+            out.flush();
+            byte[] response = new byte[CHALLENGE_SIZE];
+            boolean magic = in.readInt() == MAGIC;
+            in.readFully(response);
+            if (!magic || !MessageDigest.isEqual(response, sign(challenge))) {
+                rejected.incrementAndGet();
+                logger.warn("Rejected broadcast bus connection from {}", socket.getRemoteSocketAddress());
+                return;
+            }
+            // Authenticated peers may stay idle between updates
+            socket.setSoTimeout(0);
+            while (running) {
+                int length = in.readInt();
+                if (length <= 0 || length > MAX_FRAME_SIZE) {
+                    throw new IOException("Invalid frame length " + length);
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                JournalEntry entry;
+                try {
+                    entry = JournalEntry.decode(payload);
+                } catch (IllegalArgumentException | UncheckedIOException e) {
+                    // Frames are length-prefixed, so one a peer on another version wrote can be skipped
+                    logger.warn("Skipped undecodable update from {}: {}", socket.getRemoteSocketAddress(), e.toString());
+                    continue;
+                }
+                if (apply(entry.getAuction())) {
+                    auctionEventDispatcher.publish(entry.getAuction(), entry.getBids());
+                }
+            }
+        } catch (EOFException e) {
+            // Peer closed the connection
+        } catch (SocketTimeoutException e) {
+            rejected.incrementAndGet();
+            logger.warn("Broadcast bus connection from {} timed out in the handshake", socket.getRemoteSocketAddress());
+        } catch (IOException | RuntimeException e) {
+            if (running) {
+                logger.warn("Broadcast bus connection from {} failed", socket.getRemoteSocketAddress(), e);
+            }
+        }
+    }
+
+    /**
+     * Answers a handshake challenge with its HMAC under the shared secret.
+     */
+    private byte[] sign(byte[] challenge) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(secret);
+            return mac.doFinal(challenge);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot compute " + MAC_ALGORITHM, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        running = false;
+        serverSocket.close();
+        for (Peer peer : peers) {
+            peer.thread.interrupt();
+        }
+    }
+
+    /**
+     * An outbound connection with its send queue and sender thread.
+     */
+    private class Peer implements Runnable {
+        private final String address;
+        private final BlockingQueue<byte[]> queue;
+        private final Thread thread;
+
+        private Peer(String address, int queueSize) {
+            this.address = address;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+            this.thread = new Thread(this, "bus-peer-" + address);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try (Socket socket = connect();
+                     DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+                    byte[] challenge = new byte[CHALLENGE_SIZE];
+                    socket.setSoTimeout(HANDSHAKE_TIMEOUT_MILLIS);
+                    new DataInputStream(socket.getInputStream()).readFully(challenge);
+                    out.writeInt(MAGIC);
+                    out.write(sign(challenge));
+                    out.flush();
+                    logger.info("Broadcast bus connected to peer {}", address);
+                    while (running) {
+                        byte[] frame = queue.take();
+                        // Write everything queued, then flush once
+                        do {
+                            out.writeInt(frame.length);
+                            out.write(frame);
+                        } while ((frame = queue.poll()) != null);
+                        out.flush();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (IOException e) {
+                    if (running) {
+                        logger.debug("Broadcast bus peer {} unavailable; retrying", address, e);
+                        // Updates queued while the peer is down would be stale when it returns
+                        queue.clear();
+                        try {
+                            TimeUnit.MILLISECONDS.sleep(RECONNECT_DELAY_MILLIS);
+                        } catch (InterruptedException interrupted) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+
+        private Socket connect() throws IOException {
+            int separator = address.lastIndexOf(':');
+            Socket socket = new Socket();
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(address.substring(0, separator),
+                    Integer.parseInt(address.substring(separator + 1))), 2000);
+            return socket;
+        }
+
+        @Override
+        public String toString() {
+            return address;
+        }
+    }
+}
@@ -31,6 +31,9 @@ public class SecurityConfig {
             // Define authorization rules
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auctions/create").authenticated() // Require auth for creating auctions
+                // Operational metrics are not for anonymous callers
+                .requestMatchers("/api/auctions/ws-metrics", "/api/auctions/user-cache-stats",
+                        "/api/auctions/coalescing-stats").authenticated()
                 .requestMatchers("/ws/**").permitAll() // Allow WebSocket connections
                 .anyRequest().permitAll() // Allow all other requests
             )
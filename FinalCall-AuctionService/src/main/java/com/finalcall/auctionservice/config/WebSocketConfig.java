@@ -3,6 +3,8 @@
 package com.finalcall.auctionservice.config;
 
 import com.finalcall.auctionservice.websocket.AuctionWSHandler;
+import com.finalcall.auctionservice.websocket.LobbyWSHandler;
+import com.finalcall.auctionservice.websocket.StreamWSHandler;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.*;
 
@@ -14,14 +16,25 @@ import org.springframework.web.socket.config.annotation.*;
 public class WebSocketConfig implements WebSocketConfigurer {
 
     private final AuctionWSHandler auctionWSHandler;
+    private final StreamWSHandler streamWSHandler;
+    private final LobbyWSHandler lobbyWSHandler;
 
-    public WebSocketConfig(AuctionWSHandler auctionWSHandler) {
+    public WebSocketConfig(AuctionWSHandler auctionWSHandler, StreamWSHandler streamWSHandler,
+                           LobbyWSHandler lobbyWSHandler) {
         this.auctionWSHandler = auctionWSHandler;
+        this.streamWSHandler = streamWSHandler;
+        this.lobbyWSHandler = lobbyWSHandler;
     }
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         registry.addHandler(auctionWSHandler, "/ws/auctions/{auctionId}")
                 .setAllowedOrigins("*"); // Adjust allowed origins as necessary
+        // One connection carrying any number of auction subscriptions
+        registry.addHandler(streamWSHandler, "/ws/stream")
+                .setAllowedOrigins("*");
+        // Batched changes across all open auctions
+        registry.addHandler(lobbyWSHandler, "/ws/lobby")
+                .setAllowedOrigins("*");
     }
 }
@@ -2,29 +2,52 @@
 
 package com.finalcall.auctionservice.controller;
 
+import com.finalcall.auctionservice.client.CoalescingCatalogueClient;
+import com.finalcall.auctionservice.client.UserProfileCache;
 import com.finalcall.auctionservice.dto.*;
 import com.finalcall.auctionservice.entity.Auction;
 import com.finalcall.auctionservice.entity.AuctionType;
+import com.finalcall.auctionservice.exception.AuctionNotActiveException;
+import com.finalcall.auctionservice.exception.BidConflictException;
+import com.finalcall.auctionservice.exception.InvalidBidException;
 import com.finalcall.auctionservice.service.AuctionService;
+import com.finalcall.auctionservice.websocket.SessionFanout;
+import com.finalcall.auctionservice.websocket.SseStreams;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/auctions")
 @CrossOrigin(origins = "http://localhost:3000") // Restrict to frontend origin
 public class AuctionController {
 
+    static final int MAX_ITEM_BATCH_SIZE = 1000;
+
     @Autowired
     private AuctionService auctionService;
 
+    @Autowired
+    private SessionFanout sessionFanout;
+
+    @Autowired
+    private SseStreams sseStreams;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @Autowired
+    private CoalescingCatalogueClient coalescingCatalogueClient;
+
     /**
      * Creates a new auction.
      *
@@ -69,6 +92,12 @@ public class AuctionController {
         try {
             BidResponse response = auctionService.placeBid(auctionId, bidRequest);
             return ResponseEntity.ok(response);
+        } catch (BidConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new BidResponse(e.getMessage(), null, BidOutcome.OUTBID));
+        } catch (InvalidBidException e) {
+            return ResponseEntity.badRequest().body(new BidResponse(e.getMessage(), null, BidOutcome.REJECTED));
+        } catch (AuctionNotActiveException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new BidResponse(e.getMessage(), null, BidOutcome.ENDED));
         } catch (NoSuchElementException | IllegalStateException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
@@ -78,6 +107,33 @@ public class AuctionController {
         }
     }
 
+    /**
+     * Registers a maximum bid; the service then bids on the bidder's behalf up to it.
+     *
+     * @param auctionId       The ID of the auction.
+     * @param proxyBidRequest The maximum bid details.
+     * @return ResponseEntity with BidResponse or error message.
+     */
+    @PostMapping("/{auctionId}/proxy-bid")
+    public ResponseEntity<?> placeProxyBid(@PathVariable Long auctionId, @Valid @RequestBody ProxyBidRequest proxyBidRequest) {
+        try {
+            BidResponse response = auctionService.placeProxyBid(auctionId, proxyBidRequest);
+            return ResponseEntity.ok(response);
+        } catch (BidConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new BidResponse(e.getMessage(), null, BidOutcome.OUTBID));
+        } catch (InvalidBidException e) {
+            return ResponseEntity.badRequest().body(new BidResponse(e.getMessage(), null, BidOutcome.REJECTED));
+        } catch (AuctionNotActiveException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new BidResponse(e.getMessage(), null, BidOutcome.ENDED));
+        } catch (NoSuchElementException | IllegalStateException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            // Log exception
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error placing maximum bid.");
+        }
+    }
+
     /**
      * Retrieves auction details by item ID.
      *
@@ -101,6 +157,26 @@ public class AuctionController {
         }
     }
 
+    /**
+     * Retrieves the auctions of many items in one call.
+     *
+     * @param itemIds The IDs of the items; at most {@value #MAX_ITEM_BATCH_SIZE}.
+     * @return ResponseEntity containing the AuctionDTOs found or error message. Items without an auction are omitted.
+     */
+    @PostMapping("/items/batch")
+    public ResponseEntity<?> getAuctionsByItemIds(@RequestBody Set<Long> itemIds) {
+        if (itemIds.size() > MAX_ITEM_BATCH_SIZE) {
+            return ResponseEntity.badRequest().body("At most " + MAX_ITEM_BATCH_SIZE + " items per request.");
+        }
+        try {
+            return ResponseEntity.ok(auctionService.findAuctionDTOsByItemIds(itemIds));
+        } catch (Exception e) {
+            // Log exception
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error fetching auctions.");
+        }
+    }
+
     /**
      * Retrieves all bids for a specific auction.
      *
@@ -128,4 +204,51 @@ public class AuctionController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error fetching user bids");
         }
     }
+
+    /**
+     * Reports WebSocket outbound queue depths and drop counts.
+     *
+     * @param limit The maximum number of sessions to list, deepest queues first.
+     * @return ResponseEntity with the fan-out metrics.
+     */
+    @GetMapping("/ws-metrics")
+    public ResponseEntity<?> getWebSocketMetrics(@RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(sessionFanout.getMetrics(limit));
+    }
+
+    /**
+     * Reports hit and miss counts of the bidder profile cache.
+     *
+     * @return ResponseEntity with the cache statistics.
+     */
+    @GetMapping("/user-cache-stats")
+    public ResponseEntity<?> getUserCacheStats() {
+        return ResponseEntity.ok(userProfileCache.getStats());
+    }
+
+    /**
+     * Reports how many CatalogueService calls were coalesced with a concurrent identical call.
+     *
+     * @return ResponseEntity with per-method call and collapse counts.
+     */
+    @GetMapping("/coalescing-stats")
+    public ResponseEntity<?> getCoalescingStats() {
+        return ResponseEntity.ok(coalescingCatalogueClient.getStats());
+    }
+
+    /**
+     * Streams an auction's snapshot and updates as Server-Sent Events, for
+     * read-only watchers. Frames match WebSocket protocol v2 in JSON.
+     *
+     * @param auctionId   The ID of the auction.
+     * @param history     "full" to list every new bid in updates.
+     * @param lastEventId The last event ID received, sent by the browser on reconnect.
+     * @return The event stream.
+     */
+    @GetMapping(value = "/{auctionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAuction(@PathVariable Long auctionId,
+                                    @RequestParam(required = false) String history,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return sseStreams.open(auctionId, lastEventId, "full".equals(history));
+    }
 }
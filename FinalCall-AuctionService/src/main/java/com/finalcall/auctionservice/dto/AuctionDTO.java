@@ -17,6 +17,8 @@ public class AuctionDTO {
     private LocalDateTime startTime;
     private Double priceDecrement;
     private Double minimumPrice;
+    private Integer priceTickSeconds;
+    private LocalDateTime priceFloorTime;
     private Long currentBidderId;
     private List<String> imageUrls;
     private String status;
@@ -109,6 +111,22 @@ public class AuctionDTO {
         this.minimumPrice = minimumPrice;
     }
 
+    public Integer getPriceTickSeconds() {
+        return priceTickSeconds;
+    }
+
+    public void setPriceTickSeconds(Integer priceTickSeconds) {
+        this.priceTickSeconds = priceTickSeconds;
+    }
+
+    public LocalDateTime getPriceFloorTime() {
+        return priceFloorTime;
+    }
+
+    public void setPriceFloorTime(LocalDateTime priceFloorTime) {
+        this.priceFloorTime = priceFloorTime;
+    }
+
     public Long getCurrentBidderId() {
         return currentBidderId;
     }
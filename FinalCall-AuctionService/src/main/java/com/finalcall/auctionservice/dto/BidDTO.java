@@ -1,5 +1,7 @@
 package com.finalcall.auctionservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.LocalDateTime;
 
 public class BidDTO {
@@ -10,6 +12,10 @@ public class BidDTO {
     private LocalDateTime timestamp;
     private AuctionDTO auction; // Add this field
 
+    // Orders bids for de-duplicating live updates against a loaded history; not sent to clients
+    @JsonIgnore
+    private Long auctionVersion;
+
     public BidDTO() {
     }
 
@@ -63,6 +69,14 @@ public class BidDTO {
         this.timestamp = timestamp;
     }
 
+    public Long getAuctionVersion() {
+        return auctionVersion;
+    }
+
+    public void setAuctionVersion(Long auctionVersion) {
+        this.auctionVersion = auctionVersion;
+    }
+
     // Setter and getter for auction
     public void setAuction(AuctionDTO auction) {
         this.auction = auction;
@@ -0,0 +1,15 @@
+// src/main/java/com/finalcall/auctionservice/dto/BidOutcome.java
+
+package com.finalcall.auctionservice.dto;
+
+/**
+ * Result of a bid attempt.
+ */
+public enum BidOutcome {
+    ACCEPTED,
+    // Lost to a concurrent bid
+    OUTBID,
+    ENDED,
+    // Not a valid bid for the auction's current state, e.g. too low
+    REJECTED
+}
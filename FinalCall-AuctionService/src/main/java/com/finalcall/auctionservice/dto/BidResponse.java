@@ -5,13 +5,19 @@ package com.finalcall.auctionservice.dto;
 public class BidResponse {
     private String message;
     private Double currentBidPrice;
+    private BidOutcome outcome;
 
     public BidResponse() {
     }
 
     public BidResponse(String message, Double currentBidPrice) {
+        this(message, currentBidPrice, BidOutcome.ACCEPTED);
+    }
+
+    public BidResponse(String message, Double currentBidPrice, BidOutcome outcome) {
         this.message = message;
         this.currentBidPrice = currentBidPrice;
+        this.outcome = outcome;
     }
 
     // Getters and Setters
@@ -31,4 +37,12 @@ public class BidResponse {
     public void setCurrentBidPrice(Double currentBidPrice) {
         this.currentBidPrice = currentBidPrice;
     }
+
+    public BidOutcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(BidOutcome outcome) {
+        this.outcome = outcome;
+    }
 }
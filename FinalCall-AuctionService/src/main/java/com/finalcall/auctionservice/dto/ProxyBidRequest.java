@@ -0,0 +1,41 @@
+// src/main/java/com/finalcall/auctionservice/dto/ProxyBidRequest.java
+
+package com.finalcall.auctionservice.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class ProxyBidRequest {
+    @NotNull(message = "Maximum amount is required.")
+    @Min(value = 0, message = "Maximum amount must be positive.")
+    private Double maxAmount;
+
+    @NotNull(message = "Bidder ID is required.")
+    private Long bidderId;
+
+    public ProxyBidRequest() {
+    }
+
+    public ProxyBidRequest(Double maxAmount, Long bidderId) {
+        this.maxAmount = maxAmount;
+        this.bidderId = bidderId;
+    }
+
+    // Getters and Setters
+
+    public Double getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(Double maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public Long getBidderId() {
+        return bidderId;
+    }
+
+    public void setBidderId(Long bidderId) {
+        this.bidderId = bidderId;
+    }
+}
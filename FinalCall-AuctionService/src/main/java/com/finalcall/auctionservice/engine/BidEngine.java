@@ -0,0 +1,154 @@
+// src/main/java/com/finalcall/auctionservice/engine/BidEngine.java
+
+package com.finalcall.auctionservice.engine;
+
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.AuctionStatus;
+import com.finalcall.auctionservice.entity.ProxyBid;
+import com.finalcall.auctionservice.exception.AuctionNotFoundException;
+import com.finalcall.auctionservice.repository.AuctionRepository;
+import com.finalcall.auctionservice.repository.ProxyBidRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * In-memory bid matching engine.
+ * Active auctions are partitioned by ID across a fixed number of single-threaded
+ * shards. Every command for a given auction runs on the same shard thread, so
+ * bids are evaluated against in-memory state without locks or database round
+ * trips. Auctions are loaded from the database, with their proxy maximums, the
+ * first time they are touched, and dropped again once their end is stored.
+ */
+@Component
+@DependsOn("bidWriter")
+public class BidEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidEngine.class);
+
+    private final AuctionRepository auctionRepository;
+    private final ProxyBidRepository proxyBidRepository;
+    private final TransactionTemplate readTransaction;
+    private final BidShard[] shards;
+
+    public BidEngine(AuctionRepository auctionRepository,
+                     ProxyBidRepository proxyBidRepository,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${auction.engine.shards:0}") int shardCount) {
+        this.auctionRepository = auctionRepository;
+        this.proxyBidRepository = proxyBidRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new BidShard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new BidShard(i);
+            shards[i].start();
+        }
+        logger.info("Bid engine started with {} shards", count);
+    }
+
+    /**
+     * Runs a command against the live state of an auction on its shard thread.
+     *
+     * @param auctionId The ID of the auction.
+     * @param command   The command to execute; it has exclusive access to the auction.
+     * @return A future completed with the command's result or failure.
+     */
+    public <T> CompletableFuture<T> submit(Long auctionId, Function<LiveAuction, T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        BidShard shard = shardFor(auctionId);
+        shard.execute(() -> {
+            try {
+                LiveAuction live = shard.resident(auctionId, this::load);
+                future.complete(command.apply(live));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Drops an auction from memory so that its next command reloads it from the database.
+     *
+     * @param auctionId The ID of the auction.
+     */
+    public void evict(Long auctionId) {
+        BidShard shard = shardFor(auctionId);
+        shard.execute(() -> shard.evict(auctionId));
+    }
+
+    /**
+     * Makes the given auction states resident, replacing whatever the shards hold.
+     * Used to seed the engine when recovering from the bid journal.
+     *
+     * @param auctions The auction states to restore, with their proxy maximums.
+     */
+    public void restore(Collection<LiveAuction> auctions) {
+        for (LiveAuction live : auctions) {
+            BidShard shard = shardFor(live.getAuction().getId());
+            shard.execute(() -> shard.put(live));
+        }
+    }
+
+    /**
+     * Captures a snapshot of every resident auction with the given status.
+     * Each shard copies its own auctions on its own thread.
+     *
+     * @param status The status to match.
+     * @return A future completed with detached copies from all shards.
+     */
+    public CompletableFuture<List<LiveAuction>> snapshot(AuctionStatus status) {
+        List<CompletableFuture<List<LiveAuction>>> parts = new ArrayList<>(shards.length);
+        for (BidShard shard : shards) {
+            CompletableFuture<List<LiveAuction>> part = new CompletableFuture<>();
+            shard.execute(() -> part.complete(shard.snapshot(status)));
+            parts.add(part);
+        }
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+                .thenApply(done -> {
+                    List<LiveAuction> all = new ArrayList<>();
+                    parts.forEach(part -> all.addAll(part.join()));
+                    return all;
+                });
+    }
+
+    private BidShard shardFor(Long auctionId) {
+        return shards[Math.floorMod(Long.hashCode(auctionId), shards.length)];
+    }
+
+    private LiveAuction load(Long auctionId) {
+        return readTransaction.execute(status -> {
+            Auction loaded = auctionRepository.findById(auctionId)
+                    .orElseThrow(() -> new AuctionNotFoundException("Auction not found with ID: " + auctionId));
+            Map<Long, Double> proxyMaximums = new LinkedHashMap<>();
+            for (ProxyBid proxy : proxyBidRepository.findByAuctionIdOrderByIdAsc(auctionId)) {
+                proxyMaximums.put(proxy.getBidderId(), proxy.getMaxAmount());
+            }
+            // Initialize lazy collections while the session is still open
+            return new LiveAuction(new Auction(loaded), proxyMaximums);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (BidShard shard : shards) {
+            shard.shutdown();
+        }
+    }
+}
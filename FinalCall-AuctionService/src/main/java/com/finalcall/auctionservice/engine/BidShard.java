@@ -0,0 +1,133 @@
+// src/main/java/com/finalcall/auctionservice/engine/BidShard.java
+
+package com.finalcall.auctionservice.engine;
+
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.AuctionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * A single-threaded partition of the bid engine.
+ * Commands are handed over through a lock-free queue and executed strictly in
+ * arrival order by the shard's own thread, which is the only thread allowed to
+ * read or write the auctions resident in this shard.
+ */
+class BidShard implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidShard.class);
+
+    private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final Map<Long, LiveAuction> auctions = new HashMap<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    BidShard(int index) {
+        this.thread = new Thread(this, "bid-shard-" + index);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Enqueues a command for execution on the shard thread.
+     *
+     * @param command The command to run.
+     */
+    void execute(Runnable command) {
+        queue.offer(command);
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Returns the resident auction, loading it on first access. An auction
+     * loaded in its ENDED state is returned without being kept, as it takes
+     * no more changes. Must only be called from the shard thread.
+     *
+     * @param auctionId The ID of the auction.
+     * @param loader    Loads the auction when it is not yet resident.
+     * @return The live auction.
+     */
+    LiveAuction resident(Long auctionId, Function<Long, LiveAuction> loader) {
+        LiveAuction live = auctions.get(auctionId);
+        if (live == null) {
+            live = loader.apply(auctionId);
+            if (live.getAuction().getStatus() != AuctionStatus.ENDED) {
+                auctions.put(auctionId, live);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Makes an auction resident with the given state, replacing any existing copy.
+     * Must only be called from the shard thread.
+     *
+     * @param live The live auction.
+     */
+    void put(LiveAuction live) {
+        auctions.put(live.getAuction().getId(), live);
+    }
+
+    /**
+     * Copies the state of every resident auction with the given status.
+     * Must only be called from the shard thread.
+     *
+     * @param status The status to match.
+     * @return Detached copies of the matching auctions and their proxy maximums.
+     */
+    List<LiveAuction> snapshot(AuctionStatus status) {
+        List<LiveAuction> snapshots = new ArrayList<>();
+        for (LiveAuction live : auctions.values()) {
+            if (live.getAuction().getStatus() == status) {
+                snapshots.add(live.copy());
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Drops an auction from memory so the next command reloads it.
+     * Must only be called from the shard thread.
+     *
+     * @param auctionId The ID of the auction.
+     */
+    void evict(Long auctionId) {
+        auctions.remove(auctionId);
+    }
+
+    @Override
+    public void run() {
+        while (running || !queue.isEmpty()) {
+            Runnable command = queue.poll();
+            if (command == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            try {
+                command.run();
+            } catch (Throwable t) {
+                logger.error("Unhandled error in {}", thread.getName(), t);
+            }
+        }
+    }
+
+    /**
+     * Stops accepting work once the queue is drained and waits for the thread to exit.
+     */
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join();
+    }
+}
@@ -0,0 +1,357 @@
+// src/main/java/com/finalcall/auctionservice/engine/BidWriter.java
+
+package com.finalcall.auctionservice.engine;
+
+import com.finalcall.auctionservice.dto.BidOutcome;
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.AuctionStatus;
+import com.finalcall.auctionservice.entity.AuctionType;
+import com.finalcall.auctionservice.entity.Bid;
+import com.finalcall.auctionservice.event.AuctionUpdatedEvent;
+import com.finalcall.auctionservice.repository.AuctionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists state changes accepted by the {@link BidEngine} off the bidding path.
+ * Writes are group-committed: a single background thread collects pending writes
+ * into micro-batches bounded by count or by a short delay, applies them in
+ * submission order inside one transaction, inserts all accepted bids with one
+ * multi-row INSERT and commits once. Each caller's future completes only after
+ * the batch containing its write is durable, and an {@link AuctionUpdatedEvent}
+ * is published for each write the database accepts. A batch that fails is
+ * broken up and its writes are committed one by one.
+ */
+@Component("bidWriter")
+public class BidWriter implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidWriter.class);
+
+    // Keeps the generated statement and its parameter count within driver limits
+    private static final int MAX_ROWS_PER_INSERT = 250;
+
+    private final AuctionRepository auctionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public BidWriter(AuctionRepository auctionRepository,
+                     JdbcTemplate jdbcTemplate,
+                     ApplicationEventPublisher eventPublisher,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${auction.writer.batch-size:256}") int maxBatchSize,
+                     @Value("${auction.writer.max-delay-ms:5}") long maxDelayMs) {
+        this.auctionRepository = auctionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxDelayMs));
+        this.thread = new Thread(this, "bid-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queues an auction snapshot and the bids that produced it for persistence.
+     * The auction row is changed with a single conditional UPDATE rather than a
+     * load-then-save, so a write never regresses a price that is already higher
+     * or reopens an auction that has ended. Every change is also guarded by the
+     * row version the snapshot was computed from.
+     *
+     * @param auction       A detached snapshot of the auction's new state.
+     * @param bids          The bids accepted with this change; may be empty.
+     * @param proxyMaximums The auction's proxy maximums in registration order,
+     *                      replacing the stored ones; null to leave them alone.
+     * @return A future completed with the outcome once the change has been committed.
+     */
+    public CompletableFuture<BidOutcome> write(Auction auction, List<Bid> bids, Map<Long, Double> proxyMaximums) {
+        return enqueue(new PendingWrite(auction, bids, proxyMaximums, false, false));
+    }
+
+    /**
+     * Queues a journaled auction state and its bids for the database projection.
+     * The journal is the system of record, so the state is not re-validated: the
+     * row is brought up to it unless it already has it or a later version.
+     *
+     * @param auction       The journaled state of the auction.
+     * @param bids          The journaled bids; may be empty.
+     * @param proxyMaximums The journaled proxy maximums, or null if the auction has never had any.
+     * @param mayBeApplied  Whether the entry may already be in the database, e.g.
+     *                      after a restart or a failed attempt; its bids are then
+     *                      only inserted if they are not in the table yet.
+     * @return A future completed with {@link BidOutcome#ACCEPTED} once the entry is in the database.
+     */
+    public CompletableFuture<BidOutcome> project(Auction auction, List<Bid> bids, Map<Long, Double> proxyMaximums,
+                                                 boolean mayBeApplied) {
+        return enqueue(new PendingWrite(auction, bids, proxyMaximums, true, mayBeApplied));
+    }
+
+    private CompletableFuture<BidOutcome> enqueue(PendingWrite write) {
+        if (!running) {
+            write.result.completeExceptionally(new IllegalStateException("Bid writer is shut down"));
+            return write.result;
+        }
+        queue.offer(write);
+        return write.result;
+    }
+
+    @Override
+    public void run() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Tops the batch up with whatever is queued, waiting at most the configured
+     * delay for more writes to arrive.
+     */
+    private void fillBatch(List<PendingWrite> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Applies a batch in one transaction and completes its futures once committed.
+     * If the batch fails, each write is retried in a transaction of its own, so
+     * one bad write fails only its own caller.
+     */
+    private void commit(List<PendingWrite> batch) {
+        List<BidOutcome> outcomes;
+        try {
+            outcomes = applyInTransaction(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                logger.error("Failed to persist write for auction {}", batch.get(0).auction.getId(), e);
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            logger.warn("Failed to persist batch of {} writes, retrying them one at a time", batch.size(), e);
+            for (PendingWrite write : batch) {
+                commit(List.of(write));
+            }
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result.complete(outcomes.get(i));
+        }
+    }
+
+    /**
+     * Applies the writes in submission order inside one transaction.
+     * Events for accepted writes are delivered only if it commits.
+     */
+    private List<BidOutcome> applyInTransaction(List<PendingWrite> writes) {
+        return transactionTemplate.execute(status -> {
+            List<BidOutcome> results = new ArrayList<>(writes.size());
+            List<Bid> acceptedBids = new ArrayList<>();
+            for (PendingWrite write : writes) {
+                if (write.projection) {
+                    results.add(project(write));
+                    continue;
+                }
+                BidOutcome outcome = apply(write.auction, write.bids);
+                results.add(outcome);
+                if (outcome == BidOutcome.ACCEPTED) {
+                    acceptedBids.addAll(write.bids);
+                    replaceProxies(write.auction.getId(), write.proxyMaximums);
+                    eventPublisher.publishEvent(new AuctionUpdatedEvent(this, write.auction, write.bids));
+                } else {
+                    logger.warn("Update for auction {} rejected by the database: {}", write.auction.getId(), outcome);
+                }
+            }
+            insertBids(acceptedBids);
+            return results;
+        });
+    }
+
+    /**
+     * Applies the auction change with one conditional UPDATE and classifies the result.
+     */
+    private BidOutcome apply(Auction auction, List<Bid> bids) {
+        int updated;
+        if (bids.isEmpty()) {
+            updated = auctionRepository.updateOpenAuction(auction.getId(), auction.getCurrentBidPrice(),
+                    auction.getStatus(), auction.getAuctionEndTime(), expectedVersion(auction));
+        } else if (auction.getAuctionType() == AuctionType.DUTCH) {
+            updated = auctionRepository.acceptDutchBid(auction.getId(), auction.getCurrentBidPrice(),
+                    auction.getCurrentBidderId(), expectedVersion(auction));
+        } else {
+            Bid lastBid = bids.get(bids.size() - 1);
+            updated = auctionRepository.acceptForwardBid(auction.getId(), auction.getCurrentBidPrice(),
+                    auction.getCurrentBidderId(), auction.getAuctionEndTime(), lastBid.getTimestamp(),
+                    expectedVersion(auction));
+        }
+        if (updated > 0) {
+            return BidOutcome.ACCEPTED;
+        }
+
+        // Only read the row back on the rare conflict path to explain the rejection
+        return auctionRepository.findById(auction.getId())
+                .filter(stored -> stored.getStatus() != AuctionStatus.ENDED)
+                .map(stored -> BidOutcome.OUTBID)
+                .orElse(BidOutcome.ENDED);
+    }
+
+    /**
+     * Applies a journaled state and inserts its bids, publishing an event if the
+     * row moved forward.
+     */
+    private BidOutcome project(PendingWrite write) {
+        Auction auction = write.auction;
+        int updated = auctionRepository.projectState(auction.getId(), auction.getCurrentBidPrice(),
+                auction.getCurrentBidderId(), auction.getStatus(), auction.getAuctionEndTime(), auction.getVersion());
+        // Bids are inserted even if a later state got there first, e.g. when this entry is a retry
+        insertBids(write.mayBeApplied ? missingBids(write.bids) : write.bids);
+        if (updated > 0) {
+            // Only the newest state's proxies are kept, like the row itself
+            replaceProxies(auction.getId(), write.proxyMaximums);
+            eventPublisher.publishEvent(new AuctionUpdatedEvent(this, auction, write.bids));
+        }
+        return BidOutcome.ACCEPTED;
+    }
+
+    /**
+     * Filters out bids that are already in the table. Only used on the rare
+     * re-projection path, so one lookup per bid is acceptable.
+     */
+    private List<Bid> missingBids(List<Bid> bids) {
+        List<Bid> missing = new ArrayList<>(bids.size());
+        for (Bid bid : bids) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM bids WHERE auction_id = ? AND bidder_id = ? AND amount = ? AND timestamp = ?",
+                    Integer.class, bid.getAuctionId(), bid.getBidderId(), bid.getAmount(), bid.getTimestamp());
+            if (count == null || count == 0) {
+                missing.add(bid);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * The version of the row the snapshot was computed from. The engine bumps its
+     * copy's version by one for every write, as every accepted write does to the row.
+     */
+    private static long expectedVersion(Auction auction) {
+        return auction.getVersion() - 1;
+    }
+
+    /**
+     * Inserts bids with multi-row INSERT statements. Bid IDs are generated by the
+     * database, which sidesteps the per-row round trip Hibernate needs for
+     * IDENTITY columns.
+     */
+    private void insertBids(List<Bid> bids) {
+        for (int from = 0; from < bids.size(); from += MAX_ROWS_PER_INSERT) {
+            List<Bid> chunk = bids.subList(from, Math.min(bids.size(), from + MAX_ROWS_PER_INSERT));
+            StringBuilder sql = new StringBuilder(
+                    "INSERT INTO bids (amount, auction_id, bidder_id, timestamp, auction_version) VALUES ");
+            Object[] args = new Object[chunk.size() * 5];
+            for (int i = 0; i < chunk.size(); i++) {
+                Bid bid = chunk.get(i);
+                sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+                args[i * 5] = bid.getAmount();
+                args[i * 5 + 1] = bid.getAuctionId();
+                args[i * 5 + 2] = bid.getBidderId();
+                args[i * 5 + 3] = bid.getTimestamp();
+                args[i * 5 + 4] = bid.getAuctionVersion();
+            }
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+
+    /**
+     * Replaces an auction's stored proxy maximums, keeping their registration
+     * order in the generated IDs.
+     *
+     * @param proxyMaximums The new proxy maximums, or null to leave the stored ones alone.
+     */
+    private void replaceProxies(Long auctionId, Map<Long, Double> proxyMaximums) {
+        if (proxyMaximums == null) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM proxy_bids WHERE auction_id = ?", auctionId);
+        List<Object[]> rows = new ArrayList<>(proxyMaximums.size());
+        proxyMaximums.forEach((bidderId, maxAmount) -> rows.add(new Object[]{auctionId, bidderId, maxAmount}));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO proxy_bids (auction_id, bidder_id, max_amount) VALUES (?, ?, ?)", rows);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        thread.join(TimeUnit.SECONDS.toMillis(30));
+        if (thread.isAlive()) {
+            logger.warn("Bid writer did not drain within 30 seconds");
+        }
+    }
+
+    /**
+     * A write waiting to be group-committed.
+     */
+    private static class PendingWrite {
+        private final Auction auction;
+        private final List<Bid> bids;
+        private final Map<Long, Double> proxyMaximums;
+        private final boolean projection;
+        private final boolean mayBeApplied;
+        private final CompletableFuture<BidOutcome> result = new CompletableFuture<>();
+
+        private PendingWrite(Auction auction, List<Bid> bids, Map<Long, Double> proxyMaximums,
+                             boolean projection, boolean mayBeApplied) {
+            this.auction = auction;
+            this.bids = bids;
+            this.proxyMaximums = proxyMaximums;
+            this.projection = projection;
+            this.mayBeApplied = mayBeApplied;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+// src/main/java/com/finalcall/auctionservice/engine/LiveAuction.java
+
+package com.finalcall.auctionservice.engine;
+
+import com.finalcall.auctionservice.entity.Auction;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory state of an auction resident in the bid engine.
+ * Instances are owned by exactly one shard thread and must never be touched
+ * from any other thread; hand out {@link #snapshot()} copies instead.
+ */
+public class LiveAuction {
+
+    private final Auction auction;
+
+    // Proxy maximums by bidder ID, in registration order so earlier proxies win ties
+    private final Map<Long, Double> proxyMaximums;
+
+    // Set once the auction has had proxies; from then on every write carries the full set
+    private boolean tracksProxies;
+
+    public LiveAuction(Auction auction) {
+        this(auction, Map.of());
+    }
+
+    /**
+     * @param auction       The auction state.
+     * @param proxyMaximums The registered proxy maximums in registration order.
+     */
+    public LiveAuction(Auction auction, Map<Long, Double> proxyMaximums) {
+        this.auction = auction;
+        this.proxyMaximums = new LinkedHashMap<>(proxyMaximums);
+        this.tracksProxies = !proxyMaximums.isEmpty();
+    }
+
+    /**
+     * Retrieves the mutable, shard-owned auction.
+     *
+     * @return The live Auction.
+     */
+    public Auction getAuction() {
+        return auction;
+    }
+
+    /**
+     * Retrieves the registered proxy maximums, keyed by bidder ID in registration order.
+     * They are persisted with the auction's writes; see {@link #proxySnapshot()}.
+     *
+     * @return The mutable, shard-owned proxy registrations.
+     */
+    public Map<Long, Double> getProxyMaximums() {
+        return proxyMaximums;
+    }
+
+    /**
+     * Registers or replaces a bidder's proxy maximum. Re-registering moves the
+     * bidder behind earlier proxies for ties.
+     *
+     * @param bidderId  The ID of the bidder.
+     * @param maxAmount The maximum the service may bid on the bidder's behalf.
+     */
+    public void registerProxy(Long bidderId, Double maxAmount) {
+        proxyMaximums.remove(bidderId);
+        proxyMaximums.put(bidderId, maxAmount);
+        tracksProxies = true;
+    }
+
+    /**
+     * Creates a detached copy of the current state that is safe to publish
+     * to other threads.
+     *
+     * @return A snapshot of the auction.
+     */
+    public Auction snapshot() {
+        return new Auction(auction);
+    }
+
+    /**
+     * Copies the proxy maximums for a write of the current state. Auctions that
+     * never had proxies skip the proxy write altogether; for the others the full
+     * set is written every time, so whichever write lands last leaves the right set.
+     *
+     * @return The proxy maximums in registration order, or null if there are none to write.
+     */
+    public Map<Long, Double> proxySnapshot() {
+        return tracksProxies ? new LinkedHashMap<>(proxyMaximums) : null;
+    }
+
+    /**
+     * Creates a detached copy of the auction and its proxy maximums.
+     *
+     * @return A copy that is safe to publish to other threads.
+     */
+    public LiveAuction copy() {
+        LiveAuction copy = new LiveAuction(new Auction(auction), proxyMaximums);
+        copy.tracksProxies = tracksProxies;
+        return copy;
+    }
+}
@@ -8,7 +8,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "auctions")
+@Table(name = "auctions", indexes = {
+    // Serves the closing sweep's range scan over open auctions by end time
+    @Index(name = "idx_auctions_status_end_time", columnList = "status, auction_end_time"),
+    // Serves the sweep's catch-up activation of scheduled auctions
+    @Index(name = "idx_auctions_status_start_time", columnList = "status, start_time"),
+    // Serves lookups by item, one at a time or in batches
+    @Index(name = "idx_auctions_item_id", columnList = "item_id")
+})
 public class Auction {
 
     @Id
@@ -35,6 +42,9 @@ public class Auction {
 
     private Double minimumPrice;
 
+    // Seconds between Dutch price drops; null means the default interval
+    private Integer priceTickSeconds;
+
     private Long currentBidderId;
 
     @ElementCollection
@@ -45,17 +55,49 @@ public class Auction {
     @Enumerated(EnumType.STRING)
     private AuctionStatus status;
 
+    @Version
+    @Column(columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     // Constructors
 
     public Auction() {
     }
 
+    /**
+     * Copy constructor used to hand out detached snapshots of an auction whose
+     * live state is owned by another thread.
+     *
+     * @param other The auction to copy.
+     */
+    public Auction(Auction other) {
+        this.id = other.id;
+        this.itemId = other.itemId;
+        this.auctionType = other.auctionType;
+        this.startingBidPrice = other.startingBidPrice;
+        this.currentBidPrice = other.currentBidPrice;
+        this.auctionEndTime = other.auctionEndTime;
+        this.sellerId = other.sellerId;
+        this.startTime = other.startTime;
+        this.priceDecrement = other.priceDecrement;
+        this.minimumPrice = other.minimumPrice;
+        this.priceTickSeconds = other.priceTickSeconds;
+        this.currentBidderId = other.currentBidderId;
+        this.imageUrls = new ArrayList<>(other.imageUrls);
+        this.status = other.status;
+        this.version = other.version;
+    }
+
     // Getters and Setters
 
     public Long getId() {
         return id;
     }
 
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public Long getItemId() {
         return itemId;
     }
@@ -128,6 +170,14 @@ public class Auction {
         this.minimumPrice = minimumPrice;
     }
 
+    public Integer getPriceTickSeconds() {
+        return priceTickSeconds;
+    }
+
+    public void setPriceTickSeconds(Integer priceTickSeconds) {
+        this.priceTickSeconds = priceTickSeconds;
+    }
+
     public Long getCurrentBidderId() {
         return currentBidderId;
     }
@@ -151,4 +201,12 @@ public class Auction {
     public void setStatus(AuctionStatus status) {
         this.status = status;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
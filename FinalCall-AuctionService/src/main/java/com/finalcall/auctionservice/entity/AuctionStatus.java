@@ -3,6 +3,7 @@
 package com.finalcall.auctionservice.entity;
 
 public enum AuctionStatus {
+    SCHEDULED,
     ACTIVE,
     ENDED
 }
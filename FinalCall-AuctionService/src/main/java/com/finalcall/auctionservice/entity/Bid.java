@@ -21,6 +21,9 @@ public class Bid {
 
     private LocalDateTime timestamp;
 
+    // Version of the auction write that accepted the bid; increases with every write to the auction
+    private Long auctionVersion;
+
     // Constructors
 
     public Bid() {
@@ -70,4 +73,12 @@ public class Bid {
     public void setTimestamp(LocalDateTime timestamp) {
         this.timestamp = timestamp;
     }
+
+    public Long getAuctionVersion() {
+        return auctionVersion;
+    }
+
+    public void setAuctionVersion(Long auctionVersion) {
+        this.auctionVersion = auctionVersion;
+    }
 }
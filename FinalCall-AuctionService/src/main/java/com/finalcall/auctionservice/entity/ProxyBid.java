@@ -0,0 +1,67 @@
+// src/main/java/com/finalcall/auctionservice/entity/ProxyBid.java
+
+package com.finalcall.auctionservice.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * A bidder's registered maximum on a forward auction. The ID gives the
+ * registration order, which decides ties between equal maximums.
+ */
+@Entity
+@Table(name = "proxy_bids", indexes = {
+    @Index(name = "idx_proxy_bids_auction_id", columnList = "auction_id")
+})
+public class ProxyBid {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long auctionId;
+
+    private Long bidderId;
+
+    private Double maxAmount;
+
+    // Constructors
+
+    public ProxyBid() {
+    }
+
+    public ProxyBid(Long auctionId, Long bidderId, Double maxAmount) {
+        this.auctionId = auctionId;
+        this.bidderId = bidderId;
+        this.maxAmount = maxAmount;
+    }
+
+    // Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAuctionId() {
+        return auctionId;
+    }
+
+    public void setAuctionId(Long auctionId) {
+        this.auctionId = auctionId;
+    }
+
+    public Long getBidderId() {
+        return bidderId;
+    }
+
+    public void setBidderId(Long bidderId) {
+        this.bidderId = bidderId;
+    }
+
+    public Double getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(Double maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+}
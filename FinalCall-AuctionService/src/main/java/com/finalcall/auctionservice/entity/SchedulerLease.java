@@ -0,0 +1,57 @@
+// src/main/java/com/finalcall/auctionservice/entity/SchedulerLease.java
+
+package com.finalcall.auctionservice.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Time-bound claim by one service instance on a partition of the scheduled work.
+ * A lease whose expiry has passed may be taken over by any instance.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+public class SchedulerLease {
+
+    @Id
+    private Integer partitionId;
+
+    private String owner;
+
+    private LocalDateTime expiresAt;
+
+    // Constructors
+
+    public SchedulerLease() {
+    }
+
+    public SchedulerLease(Integer partitionId) {
+        this.partitionId = partitionId;
+    }
+
+    // Getters and Setters
+
+    public Integer getPartitionId() {
+        return partitionId;
+    }
+
+    public void setPartitionId(Integer partitionId) {
+        this.partitionId = partitionId;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
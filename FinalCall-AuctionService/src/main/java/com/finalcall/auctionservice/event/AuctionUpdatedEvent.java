@@ -3,14 +3,18 @@
 package com.finalcall.auctionservice.event;
 
 import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.Bid;
 import org.springframework.context.ApplicationEvent;
 
+import java.util.List;
+
 /**
  * Custom event for auction updates.
  */
 public class AuctionUpdatedEvent extends ApplicationEvent {
 
     private final Auction auction;
+    private final List<Bid> bids;
 
     /**
      * Constructor for AuctionUpdatedEvent.
@@ -19,8 +23,20 @@ public class AuctionUpdatedEvent extends ApplicationEvent {
      * @param auction The updated Auction entity.
      */
     public AuctionUpdatedEvent(Object source, Auction auction) {
+        this(source, auction, List.of());
+    }
+
+    /**
+     * Constructor for AuctionUpdatedEvent carrying the bids accepted with the update.
+     *
+     * @param source  The source of the event.
+     * @param auction The updated Auction entity.
+     * @param bids    The bids accepted with this update.
+     */
+    public AuctionUpdatedEvent(Object source, Auction auction, List<Bid> bids) {
         super(source);
         this.auction = auction;
+        this.bids = bids;
     }
 
     /**
@@ -31,4 +47,13 @@ public class AuctionUpdatedEvent extends ApplicationEvent {
     public Auction getAuction() {
         return auction;
     }
+
+    /**
+     * Retrieves the bids accepted with this update.
+     *
+     * @return The new bids; empty for price or status changes.
+     */
+    public List<Bid> getBids() {
+        return bids;
+    }
 }
@@ -0,0 +1,36 @@
+// src/main/java/com/finalcall/auctionservice/event/PartitionsAcquiredEvent.java
+
+package com.finalcall.auctionservice.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
+/**
+ * Published when this instance takes over partitions of the scheduled work,
+ * e.g. after another instance's leases expired.
+ */
+public class PartitionsAcquiredEvent extends ApplicationEvent {
+
+    private final Set<Integer> partitions;
+
+    /**
+     * Constructor for PartitionsAcquiredEvent.
+     *
+     * @param source     The source of the event.
+     * @param partitions The newly acquired partitions.
+     */
+    public PartitionsAcquiredEvent(Object source, Set<Integer> partitions) {
+        super(source);
+        this.partitions = partitions;
+    }
+
+    /**
+     * Retrieves the newly acquired partitions.
+     *
+     * @return The partition IDs.
+     */
+    public Set<Integer> getPartitions() {
+        return partitions;
+    }
+}
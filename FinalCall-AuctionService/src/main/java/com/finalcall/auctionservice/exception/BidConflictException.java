@@ -0,0 +1,13 @@
+// src/main/java/com/finalcall/auctionservice/exception/BidConflictException.java
+
+package com.finalcall.auctionservice.exception;
+
+/**
+ * A valid bid that lost to a concurrent change of the auction, e.g. a higher
+ * bid committed first.
+ */
+public class BidConflictException extends RuntimeException {
+    public BidConflictException(String message) {
+        super(message);
+    }
+}
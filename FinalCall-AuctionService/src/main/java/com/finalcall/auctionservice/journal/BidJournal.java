@@ -0,0 +1,332 @@
+// src/main/java/com/finalcall/auctionservice/journal/BidJournal.java
+
+package com.finalcall.auctionservice.journal;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Durable, append-only journal of auction state changes, used when
+ * {@code auction.persistence.mode=journal}.
+ * <p>
+ * The journal is a sequence of fixed-size memory-mapped segment files. A record's
+ * offset is {@code segmentIndex * segmentSize + position}, so offsets grow
+ * monotonically and locate a record without an index. Appends only copy bytes
+ * into the mapped segment; a flusher thread forces the segments to disk every
+ * few milliseconds and completes the futures of every append it covered, so the
+ * cost of an fsync is shared by all bids that arrived in that window.
+ * <p>
+ * In journal mode the H2 tables are a projection: entries are fed to the
+ * database asynchronously, and every appended entry counts as unprojected
+ * until {@link #markProjected(long)} reports it in the database. The
+ * projection watermark is the start of the oldest unprojected entry, so it
+ * only moves over a contiguous run of projected entries; recovery re-applies
+ * everything from it on.
+ */
+@Component
+public class BidJournal implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidJournal.class);
+
+    private static final String PROJECTION_FILE = "projection.offset";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalNanos;
+
+    // Guarded by this
+    private JournalSegment current;
+    private long writeOffset;
+    private final List<JournalSegment> sealed = new ArrayList<>();
+    private final List<PendingFlush> pending = new ArrayList<>();
+    // Entries not yet in the database, end offset to start offset
+    private final NavigableMap<Long, Long> unprojected = new TreeMap<>();
+    private Thread flusher;
+    private volatile boolean running;
+
+    public BidJournal(@Value("${auction.persistence.mode:database}") String persistenceMode,
+                      @Value("${auction.journal.dir:./data/journal}") String directory,
+                      @Value("${auction.journal.segment-size-mb:64}") int segmentSizeMb,
+                      @Value("${auction.journal.flush-interval-ms:2}") long flushIntervalMs) {
+        this.enabled = "journal".equalsIgnoreCase(persistenceMode);
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMs));
+    }
+
+    /**
+     * Indicates whether the service runs in journal persistence mode.
+     *
+     * @return true if the journal is the system of record.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Opens the journal for appending at the given offset, discarding anything
+     * written after it. Called once recovery has found the end of the valid data.
+     *
+     * @param offset The offset of the first byte after the last valid record.
+     */
+    synchronized void open(long offset) throws IOException {
+        Files.createDirectories(directory);
+        current = new JournalSegment(directory, offset / segmentSize, segmentSize);
+        current.clearFrom((int) (offset % segmentSize));
+        writeOffset = offset;
+        running = true;
+        flusher = new Thread(this, "bid-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        logger.info("Bid journal opened at offset {} in {}", offset, directory.toAbsolutePath());
+    }
+
+    /**
+     * Appends an auction state change to the journal.
+     * Must be called from the shard thread that owns the auction so that entries
+     * for one auction are journaled in the order they were applied.
+     *
+     * @param entry The auction's new state, detached, with the bids accepted with the change.
+     * @return A future completed with the offset just past the entry once it is on disk.
+     */
+    public CompletableFuture<Long> append(JournalEntry entry) {
+        byte[] payload = entry.encode();
+        int recordSize = JournalSegment.HEADER_SIZE + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Journal entry of " + recordSize + " bytes exceeds the segment size");
+        }
+
+        CompletableFuture<Long> durable = new CompletableFuture<>();
+        synchronized (this) {
+            if (current == null) {
+                throw new IllegalStateException("Bid journal is not open");
+            }
+            int position = (int) (writeOffset % segmentSize);
+            if (position + recordSize > segmentSize) {
+                roll();
+                position = 0;
+            }
+            current.write(position, payload);
+            long start = writeOffset;
+            writeOffset += recordSize;
+            unprojected.put(writeOffset, start);
+            pending.add(new PendingFlush(writeOffset, durable));
+        }
+        return durable;
+    }
+
+    /**
+     * Starts a new segment; the old one is forced and closed by the flusher.
+     */
+    private void roll() {
+        long nextIndex = current.getIndex() + 1;
+        try {
+            sealed.add(current);
+            current = new JournalSegment(directory, nextIndex, segmentSize);
+            writeOffset = nextIndex * segmentSize;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll bid journal segment", e);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            flush();
+        }
+        flush();
+    }
+
+    /**
+     * Forces written segments to disk and completes the appends they cover.
+     */
+    private void flush() {
+        List<PendingFlush> ready;
+        List<JournalSegment> toForce;
+        synchronized (this) {
+            if (pending.isEmpty() && sealed.isEmpty()) {
+                return;
+            }
+            ready = new ArrayList<>(pending);
+            pending.clear();
+            toForce = new ArrayList<>(sealed);
+            sealed.clear();
+            toForce.add(current);
+        }
+
+        try {
+            for (JournalSegment segment : toForce) {
+                segment.force();
+            }
+            for (int i = 0; i < toForce.size() - 1; i++) {
+                toForce.get(i).close();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to flush bid journal", e);
+            ready.forEach(flush -> flush.future.completeExceptionally(e));
+            return;
+        }
+        ready.forEach(flush -> flush.future.complete(flush.offset));
+    }
+
+    /**
+     * Reads every entry from the given offset to the end of the valid data.
+     *
+     * @param fromOffset The offset to start from.
+     * @param handler    Receives each entry with its start and end offsets.
+     * @return The offset just past the last valid entry.
+     */
+    long replay(long fromOffset, EntryHandler handler) throws IOException {
+        long index = fromOffset / segmentSize;
+        int position = (int) (fromOffset % segmentSize);
+        long offset = fromOffset;
+
+        while (Files.exists(JournalSegment.pathFor(directory, index))) {
+            JournalSegment segment = new JournalSegment(directory, index, segmentSize);
+            try {
+                byte[] payload;
+                while ((payload = segment.read(position)) != null) {
+                    long next = offset + JournalSegment.HEADER_SIZE + payload.length;
+                    handler.accept(offset, next, JournalEntry.decode(payload));
+                    position += JournalSegment.HEADER_SIZE + payload.length;
+                    offset = next;
+                }
+            } finally {
+                segment.close();
+            }
+            if (!Files.exists(JournalSegment.pathFor(directory, index + 1))) {
+                break;
+            }
+            index++;
+            position = 0;
+            offset = index * segmentSize;
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the offset just past the last appended entry.
+     *
+     * @return The current write offset.
+     */
+    synchronized long getWriteOffset() {
+        return writeOffset;
+    }
+
+    /**
+     * Records that a replayed entry has yet to reach the database.
+     *
+     * @param offset     The start offset of the entry.
+     * @param nextOffset The end offset of the entry.
+     */
+    synchronized void markUnprojected(long offset, long nextOffset) {
+        unprojected.put(nextOffset, offset);
+    }
+
+    /**
+     * Records that an entry has reached the database.
+     *
+     * @param offset The end offset of the projected entry, as returned by {@link #append}.
+     */
+    public synchronized void markProjected(long offset) {
+        unprojected.remove(offset);
+    }
+
+    /**
+     * Returns the projection watermark: every entry before it is in the database.
+     *
+     * @return The start of the oldest unprojected entry, or the write offset if there is none.
+     */
+    synchronized long getProjectedOffset() {
+        return unprojected.isEmpty() ? writeOffset : unprojected.firstEntry().getValue();
+    }
+
+    /**
+     * Persists the projection watermark so recovery can skip entries already in the database.
+     */
+    void saveProjectedOffset() throws IOException {
+        Path target = directory.resolve(PROJECTION_FILE);
+        Path temp = directory.resolve(PROJECTION_FILE + ".tmp");
+        Files.writeString(temp, Long.toString(getProjectedOffset()), StandardCharsets.UTF_8);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads the persisted projection watermark.
+     *
+     * @return The watermark, or 0 if none has been saved.
+     */
+    long loadProjectedOffset() throws IOException {
+        Path file = directory.resolve(PROJECTION_FILE);
+        return Files.exists(file) ? Long.parseLong(Files.readString(file, StandardCharsets.UTF_8).trim()) : 0L;
+    }
+
+    /**
+     * Deletes segments that lie entirely before the given offset.
+     *
+     * @param offset Entries before this offset are no longer needed for recovery.
+     */
+    void truncateBefore(long offset) throws IOException {
+        long firstNeeded = offset / segmentSize;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.startsWith("journal-") && name.endsWith(".log")) {
+                    long index = Long.parseLong(name.substring("journal-".length(), name.length() - ".log".length()));
+                    if (index < firstNeeded) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (flusher != null) {
+            running = false;
+            LockSupport.unpark(flusher);
+            flusher.join();
+        }
+    }
+
+    /**
+     * Callback for {@link #replay(long, EntryHandler)}.
+     */
+    @FunctionalInterface
+    interface EntryHandler {
+        void accept(long offset, long nextOffset, JournalEntry entry);
+    }
+
+    private static class PendingFlush {
+        private final long offset;
+        private final CompletableFuture<Long> future;
+
+        private PendingFlush(long offset, CompletableFuture<Long> future) {
+            this.offset = offset;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+// src/main/java/com/finalcall/auctionservice/journal/JournalEntry.java
+
+package com.finalcall.auctionservice.journal;
+
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.AuctionStatus;
+import com.finalcall.auctionservice.entity.AuctionType;
+import com.finalcall.auctionservice.entity.Bid;
+
+import java.io.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single record of the bid journal: the complete state of an auction after a
+ * change, plus the bids accepted with that change and the auction's proxy
+ * maximums, if it has any.
+ * Entries carry absolute state rather than deltas, so replaying an entry twice
+ * or on top of a newer snapshot of another auction is harmless.
+ * <p>
+ * The encoding is also the peer mesh wire format. It starts with a format
+ * version byte, and payloads in any other version are rejected.
+ */
+public class JournalEntry {
+
+    private static final int FORMAT_VERSION = 2;
+
+    private final Auction auction;
+    private final List<Bid> bids;
+    private final Map<Long, Double> proxyMaximums;
+
+    public JournalEntry(Auction auction, List<Bid> bids) {
+        this(auction, bids, null);
+    }
+
+    /**
+     * @param auction       The auction state.
+     * @param bids          The bids accepted with the change.
+     * @param proxyMaximums The proxy maximums in registration order, or null
+     *                      if the auction has never had any.
+     */
+    public JournalEntry(Auction auction, List<Bid> bids, Map<Long, Double> proxyMaximums) {
+        this.auction = auction;
+        this.bids = bids;
+        this.proxyMaximums = proxyMaximums;
+    }
+
+    public Auction getAuction() {
+        return auction;
+    }
+
+    public List<Bid> getBids() {
+        return bids;
+    }
+
+    /**
+     * Retrieves the proxy maximums in registration order.
+     *
+     * @return The proxy maximums, or null if the auction has never had any.
+     */
+    public Map<Long, Double> getProxyMaximums() {
+        return proxyMaximums;
+    }
+
+    /**
+     * Serializes the entry into its compact binary form.
+     *
+     * @return The encoded payload.
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(auction.getId());
+            writeLong(out, auction.getItemId());
+            writeEnum(out, auction.getAuctionType());
+            writeDouble(out, auction.getStartingBidPrice());
+            writeDouble(out, auction.getCurrentBidPrice());
+            writeDateTime(out, auction.getAuctionEndTime());
+            writeLong(out, auction.getSellerId());
+            writeDateTime(out, auction.getStartTime());
+            writeDouble(out, auction.getPriceDecrement());
+            writeDouble(out, auction.getMinimumPrice());
+            writeInteger(out, auction.getPriceTickSeconds());
+            writeLong(out, auction.getCurrentBidderId());
+            writeEnum(out, auction.getStatus());
+            writeLong(out, auction.getVersion());
+            out.writeInt(auction.getImageUrls().size());
+            for (String imageUrl : auction.getImageUrls()) {
+                out.writeUTF(imageUrl);
+            }
+
+            out.writeInt(bids.size());
+            for (Bid bid : bids) {
+                out.writeDouble(bid.getAmount());
+                out.writeLong(bid.getBidderId());
+                writeDateTime(out, bid.getTimestamp());
+            }
+
+            out.writeBoolean(proxyMaximums != null);
+            if (proxyMaximums != null) {
+                out.writeInt(proxyMaximums.size());
+                for (Map.Entry<Long, Double> proxy : proxyMaximums.entrySet()) {
+                    out.writeLong(proxy.getKey());
+                    out.writeDouble(proxy.getValue());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Restores an entry from its binary form, which must account for the
+     * whole payload.
+     *
+     * @param payload The encoded payload.
+     * @return The decoded entry.
+     * @throws IllegalArgumentException if the payload is in another format version.
+     * @throws UncheckedIOException     if the payload is malformed.
+     */
+    public static JournalEntry decode(byte[] payload) {
+        int version = payload.length > 0 ? payload[0] : -1;
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported journal entry format version " + version);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1))) {
+            Auction auction = new Auction();
+            auction.setId(in.readLong());
+            auction.setItemId(readLong(in));
+            auction.setAuctionType(readEnum(in, AuctionType.class));
+            auction.setStartingBidPrice(readDouble(in));
+            auction.setCurrentBidPrice(readDouble(in));
+            auction.setAuctionEndTime(readDateTime(in));
+            auction.setSellerId(readLong(in));
+            auction.setStartTime(readDateTime(in));
+            auction.setPriceDecrement(readDouble(in));
+            auction.setMinimumPrice(readDouble(in));
+            auction.setPriceTickSeconds(readInteger(in));
+            auction.setCurrentBidderId(readLong(in));
+            auction.setStatus(readEnum(in, AuctionStatus.class));
+            auction.setVersion(readLong(in));
+            int imageCount = readCount(in, 2);
+            List<String> imageUrls = new ArrayList<>(imageCount);
+            for (int i = 0; i < imageCount; i++) {
+                imageUrls.add(in.readUTF());
+            }
+            auction.setImageUrls(imageUrls);
+
+            int bidCount = readCount(in, 17);
+            List<Bid> bids = new ArrayList<>(bidCount);
+            for (int i = 0; i < bidCount; i++) {
+                Bid bid = new Bid(in.readDouble(), auction.getId(), in.readLong());
+                bid.setTimestamp(readDateTime(in));
+                // Bids share the version of the write that accepted them
+                bid.setAuctionVersion(auction.getVersion());
+                bids.add(bid);
+            }
+
+            Map<Long, Double> proxyMaximums = null;
+            if (in.readBoolean()) {
+                int proxyCount = readCount(in, 16);
+                proxyMaximums = new LinkedHashMap<>();
+                for (int i = 0; i < proxyCount; i++) {
+                    proxyMaximums.put(in.readLong(), in.readDouble());
+                }
+            }
+            if (in.available() > 0) {
+                throw new IOException(in.available() + " trailing bytes in journal entry");
+            }
+            return new JournalEntry(auction, bids, proxyMaximums);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads an element count, checking it against the bytes left so that a
+     * corrupt payload fails instead of allocating wildly.
+     */
+    private static int readCount(DataInputStream in, int minElementSize) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available() / minElementSize) {
+            throw new IOException("Invalid element count " + count + " in journal entry");
+        }
+        return count;
+    }
+
+    // Nullable field helpers: a presence flag followed by the value
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static Double readDouble(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readDouble() : null;
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return in.readBoolean()
+                ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC)
+                : null;
+    }
+
+    private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value.name());
+        }
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> type) throws IOException {
+        return in.readBoolean() ? Enum.valueOf(type, in.readUTF()) : null;
+    }
+}
@@ -0,0 +1,95 @@
+// src/main/java/com/finalcall/auctionservice/journal/JournalProjector.java
+
+package com.finalcall.auctionservice.journal;
+
+import com.finalcall.auctionservice.engine.BidWriter;
+import com.finalcall.auctionservice.entity.Auction;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds journal entries to the database projection in journal mode.
+ * <p>
+ * An entry is marked projected in the {@link BidJournal} only once its write
+ * has committed. A failed write is retried after a delay until it succeeds,
+ * so the projection watermark never moves past an entry the database lacks.
+ * Projection writes are idempotent, see {@link BidWriter#project}, which makes
+ * retries and re-projection after a restart safe in any order.
+ */
+@Component
+public class JournalProjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalProjector.class);
+
+    private final BidJournal bidJournal;
+    private final BidWriter bidWriter;
+    private final long retryDelayMillis;
+    private final ScheduledExecutorService retries = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-projection-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JournalProjector(BidJournal bidJournal,
+                            BidWriter bidWriter,
+                            @Value("${auction.journal.projection-retry-ms:1000}") long retryDelayMillis) {
+        this.bidJournal = bidJournal;
+        this.bidWriter = bidWriter;
+        this.retryDelayMillis = Math.max(1, retryDelayMillis);
+    }
+
+    /**
+     * Projects a freshly appended entry.
+     *
+     * @param offset The end offset of the entry, as returned by {@link BidJournal#append}.
+     * @param entry  The journaled entry.
+     * @return A future completed once the entry is in the database, after any retries.
+     */
+    public CompletableFuture<Void> project(long offset, JournalEntry entry) {
+        CompletableFuture<Void> projected = new CompletableFuture<>();
+        project(offset, entry, false, projected);
+        return projected;
+    }
+
+    /**
+     * Projects an entry replayed on startup, which may already be in the database.
+     */
+    CompletableFuture<Void> reproject(long offset, JournalEntry entry) {
+        CompletableFuture<Void> projected = new CompletableFuture<>();
+        project(offset, entry, true, projected);
+        return projected;
+    }
+
+    private void project(long offset, JournalEntry entry, boolean mayBeApplied, CompletableFuture<Void> projected) {
+        Auction auction = entry.getAuction();
+        bidWriter.project(auction, entry.getBids(), entry.getProxyMaximums(), mayBeApplied).whenComplete((outcome, error) -> {
+            if (error == null) {
+                bidJournal.markProjected(offset);
+                projected.complete(null);
+                return;
+            }
+            logger.warn("Failed to project journal entry at offset {} for auction {}; retrying in {} ms",
+                    offset, auction.getId(), retryDelayMillis, error);
+            try {
+                // A failed write may still have committed, so the retry checks before inserting bids
+                retries.schedule(() -> project(offset, entry, true, projected), retryDelayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the entry stays unprojected and is re-projected on the next start
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retries.shutdownNow();
+    }
+}
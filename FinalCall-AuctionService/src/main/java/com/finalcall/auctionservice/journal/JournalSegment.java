@@ -0,0 +1,102 @@
+// src/main/java/com/finalcall/auctionservice/journal/JournalSegment.java
+
+package com.finalcall.auctionservice.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * A fixed-size, memory-mapped file holding a contiguous range of the journal.
+ * Records are framed as {@code [int length][int crc32][payload]}; a zero length
+ * marks the end of the written data in the segment.
+ */
+class JournalSegment {
+
+    static final int HEADER_SIZE = 8;
+
+    private final long index;
+    private final int size;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    JournalSegment(Path directory, long index, int size) throws IOException {
+        this.index = index;
+        this.size = size;
+        this.channel = FileChannel.open(pathFor(directory, index),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    static Path pathFor(Path directory, long index) {
+        return directory.resolve(String.format("journal-%020d.log", index));
+    }
+
+    long getIndex() {
+        return index;
+    }
+
+    /**
+     * Writes a framed record at the given position. The caller guarantees that it fits.
+     *
+     * @param position Position within the segment.
+     * @param payload  The record payload.
+     */
+    void write(int position, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.put(position + HEADER_SIZE, payload);
+        buffer.putInt(position + 4, (int) crc.getValue());
+        // Length goes last so a partially written record reads as the end of the segment
+        buffer.putInt(position, payload.length);
+    }
+
+    /**
+     * Reads the record at the given position.
+     *
+     * @param position Position within the segment.
+     * @return The payload, or null at the end of the written data or on a torn record.
+     */
+    byte[] read(int position) {
+        if (position + HEADER_SIZE > size) {
+            return null;
+        }
+        int length = buffer.getInt(position);
+        if (length <= 0 || position + HEADER_SIZE + length > size) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(position + HEADER_SIZE, payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+            return null;
+        }
+        return payload;
+    }
+
+    /**
+     * Zeroes everything from the given position on, discarding a torn tail.
+     *
+     * @param position Position within the segment.
+     */
+    void clearFrom(int position) {
+        for (int i = position; i < size; i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    /**
+     * Flushes written records to the underlying file.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,187 @@
+// src/main/java/com/finalcall/auctionservice/journal/JournalSnapshotter.java
+
+package com.finalcall.auctionservice.journal;
+
+import com.finalcall.auctionservice.engine.BidEngine;
+import com.finalcall.auctionservice.engine.LiveAuction;
+import com.finalcall.auctionservice.entity.AuctionStatus;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Takes periodic snapshots of all active auctions held by the bid engine and
+ * restores the engine from the latest snapshot plus the journal tail on startup.
+ * Only active when {@code auction.persistence.mode=journal}.
+ */
+@Component
+public class JournalSnapshotter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalSnapshotter.class);
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final BidJournal bidJournal;
+    private final BidEngine bidEngine;
+    private final JournalProjector journalProjector;
+
+    public JournalSnapshotter(BidJournal bidJournal, BidEngine bidEngine, JournalProjector journalProjector) {
+        this.bidJournal = bidJournal;
+        this.bidEngine = bidEngine;
+        this.journalProjector = journalProjector;
+    }
+
+    /**
+     * Restores the latest snapshot, replays the journal after it into the bid
+     * engine, and re-projects entries the database had not yet received.
+     */
+    @PostConstruct
+    public void recover() throws IOException {
+        if (!bidJournal.isEnabled()) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Files.createDirectories(snapshotDirectory());
+
+        Map<Long, LiveAuction> states = new HashMap<>();
+        long snapshotOffset = loadLatestSnapshot(states);
+        Set<Long> snapshotted = new HashSet<>(states.keySet());
+        long projectedOffset = bidJournal.loadProjectedOffset();
+
+        List<JournalEntry> unprojected = new ArrayList<>();
+        List<Long> unprojectedOffsets = new ArrayList<>();
+        long endOffset = bidJournal.replay(Math.min(snapshotOffset, projectedOffset), (offset, next, entry) -> {
+            Long auctionId = entry.getAuction().getId();
+            // The snapshot already reflects everything journaled before its offset
+            if (offset >= snapshotOffset || !snapshotted.contains(auctionId)) {
+                states.put(auctionId, restored(entry));
+            }
+            if (offset >= projectedOffset) {
+                bidJournal.markUnprojected(offset, next);
+                unprojected.add(entry);
+                unprojectedOffsets.add(next);
+            }
+        });
+
+        bidJournal.open(endOffset);
+        bidEngine.restore(states.values());
+
+        Map<Long, CompletableFuture<Void>> lastProjections = new HashMap<>();
+        for (int i = 0; i < unprojected.size(); i++) {
+            JournalEntry entry = unprojected.get(i);
+            long next = unprojectedOffsets.get(i);
+            lastProjections.put(entry.getAuction().getId(), journalProjector.reproject(next, entry));
+        }
+        // Ended auctions are only held until the database has their final state
+        for (LiveAuction live : states.values()) {
+            Long auctionId = live.getAuction().getId();
+            if (live.getAuction().getStatus() == AuctionStatus.ENDED) {
+                lastProjections.getOrDefault(auctionId, CompletableFuture.completedFuture(null))
+                        .thenRun(() -> bidEngine.evict(auctionId));
+            }
+        }
+
+        logger.info("Recovered {} auctions from snapshot at offset {} and journal up to {}; re-projecting {} entries in {} ms",
+                states.size(), snapshotOffset, endOffset, unprojected.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Writes a snapshot of every active auction in the engine, then discards
+     * journal segments that are covered by both the snapshot and the projection.
+     */
+    @Scheduled(fixedDelayString = "${auction.journal.snapshot-interval-ms:60000}",
+               initialDelayString = "${auction.journal.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        if (!bidJournal.isEnabled()) {
+            return;
+        }
+        try {
+            // Capture the offset first: every change after it is replayed on top of the snapshot
+            long offset = bidJournal.getWriteOffset();
+            List<LiveAuction> active = bidEngine.snapshot(AuctionStatus.ACTIVE).join();
+
+            Path target = snapshotDirectory().resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, offset, SNAPSHOT_SUFFIX));
+            Path temp = snapshotDirectory().resolve(target.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(active.size());
+                for (LiveAuction live : active) {
+                    byte[] payload = new JournalEntry(live.getAuction(), List.of(), live.proxySnapshot()).encode();
+                    out.writeInt(payload.length);
+                    out.write(payload);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            bidJournal.saveProjectedOffset();
+            deleteSnapshotsBefore(offset);
+            bidJournal.truncateBefore(Math.min(offset, bidJournal.getProjectedOffset()));
+            logger.debug("Wrote snapshot of {} active auctions at journal offset {}", active.size(), offset);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to snapshot auction state", e);
+        }
+    }
+
+    private Path snapshotDirectory() {
+        return bidJournal.getDirectory().resolve("snapshots");
+    }
+
+    /**
+     * Loads the newest snapshot into the given map.
+     *
+     * @return The journal offset the snapshot was taken at, or 0 if there is none.
+     */
+    private long loadLatestSnapshot(Map<Long, LiveAuction> states) throws IOException {
+        Optional<Path> latest;
+        try (Stream<Path> files = Files.list(snapshotDirectory())) {
+            latest = files.filter(file -> isSnapshot(file.getFileName().toString()))
+                    .max(Comparator.comparing(file -> file.getFileName().toString()));
+        }
+        if (latest.isEmpty()) {
+            return 0L;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(latest.get())))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                JournalEntry entry = JournalEntry.decode(payload);
+                states.put(entry.getAuction().getId(), restored(entry));
+            }
+        }
+        return offsetOf(latest.get().getFileName().toString());
+    }
+
+    private static LiveAuction restored(JournalEntry entry) {
+        Map<Long, Double> proxyMaximums = entry.getProxyMaximums();
+        return new LiveAuction(entry.getAuction(), proxyMaximums != null ? proxyMaximums : Map.of());
+    }
+
+    private void deleteSnapshotsBefore(long offset) throws IOException {
+        try (Stream<Path> files = Files.list(snapshotDirectory())) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (isSnapshot(name) && offsetOf(name) < offset) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static boolean isSnapshot(String name) {
+        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+    }
+
+    private static long offsetOf(String name) {
+        return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+}
@@ -5,14 +5,174 @@ package com.finalcall.auctionservice.repository;
 import com.finalcall.auctionservice.entity.Auction;
 import com.finalcall.auctionservice.entity.AuctionStatus;
 import com.finalcall.auctionservice.entity.AuctionType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AuctionRepository extends JpaRepository<Auction, Long> {
     Optional<Auction> findByItemId(Long itemId);
+
+    /**
+     * Finds the auctions of many items, with their image URLs fetched in the
+     * same query rather than one query per auction.
+     */
+    @EntityGraph(attributePaths = "imageUrls")
+    List<Auction> findByItemIdIn(Collection<Long> itemIds);
+
     List<Auction> findByAuctionTypeAndStatus(AuctionType auctionType, AuctionStatus status);
-}
+    List<Auction> findByStatusNot(AuctionStatus status);
+
+    /**
+     * Loads the scheduling fields of every open auction in the given partitions.
+     */
+    @Query("SELECT a.id AS id, a.status AS status, a.startTime AS startTime, a.auctionEndTime AS auctionEndTime, " +
+           "a.auctionType AS auctionType, a.startingBidPrice AS startingBidPrice, a.priceDecrement AS priceDecrement, " +
+           "a.minimumPrice AS minimumPrice, a.priceTickSeconds AS priceTickSeconds FROM Auction a " +
+           "WHERE a.status <> com.finalcall.auctionservice.entity.AuctionStatus.ENDED " +
+           "AND MOD(a.id, :partitionCount) IN :partitions")
+    List<AuctionSchedule> findOpenSchedules(@Param("partitionCount") int partitionCount,
+                                            @Param("partitions") Collection<Integer> partitions);
+
+    /**
+     * Raises the price of a forward auction in a single conditional UPDATE.
+     * Only succeeds while the auction is active, not yet past its end time and
+     * the stored price is still below the bid, so a lower bid can never
+     * overwrite a higher one. The end time is written too, as a late bid may
+     * have extended it. The row must also still be at the version the bid was
+     * evaluated against, so a bid is never settled without the proxy maximums
+     * registered through another instance.
+     *
+     * @param expectedVersion The version of the row the bid was evaluated against.
+     * @return 1 if the bid was applied, 0 if it was outbid, the auction changed or it has ended.
+     */
+    @Modifying
+    @Query("UPDATE Auction a SET a.currentBidPrice = :amount, a.currentBidderId = :bidderId, " +
+           "a.auctionEndTime = :auctionEndTime, a.version = :expectedVersion + 1 " +
+           "WHERE a.id = :auctionId AND a.status = com.finalcall.auctionservice.entity.AuctionStatus.ACTIVE " +
+           "AND a.currentBidPrice < :amount AND a.auctionEndTime > :placedAt " +
+           "AND COALESCE(a.version, 0) = :expectedVersion")
+    int acceptForwardBid(@Param("auctionId") Long auctionId,
+                         @Param("amount") Double amount,
+                         @Param("bidderId") Long bidderId,
+                         @Param("auctionEndTime") LocalDateTime auctionEndTime,
+                         @Param("placedAt") LocalDateTime placedAt,
+                         @Param("expectedVersion") long expectedVersion);
+
+    /**
+     * Closes a Dutch auction in favour of the first valid bidder. Guarded by the
+     * row version like the other writes, so the version stored with the bid
+     * follows the auction's.
+     *
+     * @param expectedVersion The version of the row the bid was evaluated against.
+     * @return 1 if the bid won the auction, 0 if the auction changed or had already ended.
+     */
+    @Modifying
+    @Query("UPDATE Auction a SET a.currentBidPrice = :amount, a.currentBidderId = :bidderId, " +
+           "a.status = com.finalcall.auctionservice.entity.AuctionStatus.ENDED, a.version = :expectedVersion + 1 " +
+           "WHERE a.id = :auctionId AND a.status = com.finalcall.auctionservice.entity.AuctionStatus.ACTIVE " +
+           "AND COALESCE(a.version, 0) = :expectedVersion")
+    int acceptDutchBid(@Param("auctionId") Long auctionId,
+                       @Param("amount") Double amount,
+                       @Param("bidderId") Long bidderId,
+                       @Param("expectedVersion") long expectedVersion);
+
+    /**
+     * Applies a price, status or end time change to an auction that has not ended,
+     * such as activating a scheduled auction or closing an expired one. The
+     * change is computed from the writer's copy of the auction, so it only
+     * applies while the row is still at the version that copy was read at;
+     * otherwise another writer, e.g. a bid taken by another instance, changed
+     * the auction in between and the change would overwrite it.
+     *
+     * @param expectedVersion The version of the row the change was computed from.
+     * @return 1 if the change was applied, 0 if the auction has ended or changed since.
+     */
+    @Modifying
+    @Query("UPDATE Auction a SET a.currentBidPrice = :price, a.status = :status, " +
+           "a.auctionEndTime = :auctionEndTime, a.version = :expectedVersion + 1 " +
+           "WHERE a.id = :auctionId AND a.status <> com.finalcall.auctionservice.entity.AuctionStatus.ENDED " +
+           "AND COALESCE(a.version, 0) = :expectedVersion")
+    int updateOpenAuction(@Param("auctionId") Long auctionId,
+                          @Param("price") Double price,
+                          @Param("status") AuctionStatus status,
+                          @Param("auctionEndTime") LocalDateTime auctionEndTime,
+                          @Param("expectedVersion") long expectedVersion);
+
+    /**
+     * Brings an auction up to a state from the bid journal, unless the row is
+     * already at that version or a later one. Applying the same state twice, or
+     * an older state after a newer one, leaves the row unchanged.
+     *
+     * @param version The version of the journaled state.
+     * @return 1 if the row was brought up to the state, 0 if it already had it or a later one.
+     */
+    @Modifying
+    @Query("UPDATE Auction a SET a.currentBidPrice = :price, a.currentBidderId = :bidderId, a.status = :status, " +
+           "a.auctionEndTime = :auctionEndTime, a.version = :version " +
+           "WHERE a.id = :auctionId AND COALESCE(a.version, 0) < :version")
+    int projectState(@Param("auctionId") Long auctionId,
+                     @Param("price") Double price,
+                     @Param("bidderId") Long bidderId,
+                     @Param("status") AuctionStatus status,
+                     @Param("auctionEndTime") LocalDateTime auctionEndTime,
+                     @Param("version") long version);
+
+    /**
+     * Finds a page of auctions in the given statuses and partitions whose end
+     * time has passed. Paged by ID rather than by offset, so an auction the
+     * caller leaves open, e.g. because a late bid extended it, is not selected
+     * again on the next page.
+     *
+     * @param afterId Only auctions with a greater ID are returned; 0 for the first page.
+     */
+    @Query("SELECT a.id FROM Auction a WHERE a.status IN :statuses AND a.auctionEndTime <= :now " +
+           "AND MOD(a.id, :partitionCount) IN :partitions AND a.id > :afterId ORDER BY a.id")
+    List<Long> findExpiredIds(@Param("statuses") Collection<AuctionStatus> statuses,
+                              @Param("now") LocalDateTime now,
+                              @Param("partitionCount") int partitionCount,
+                              @Param("partitions") Collection<Integer> partitions,
+                              @Param("afterId") long afterId,
+                              Pageable pageable);
+
+    /**
+     * Finds a page of scheduled auctions in the given partitions whose start
+     * time has passed, paged by ID.
+     *
+     * @param afterId Only auctions with a greater ID are returned; 0 for the first page.
+     */
+    @Query("SELECT a.id FROM Auction a WHERE a.status = com.finalcall.auctionservice.entity.AuctionStatus.SCHEDULED " +
+           "AND a.startTime <= :now AND MOD(a.id, :partitionCount) IN :partitions AND a.id > :afterId ORDER BY a.id")
+    List<Long> findDueScheduledIds(@Param("now") LocalDateTime now,
+                                   @Param("partitionCount") int partitionCount,
+                                   @Param("partitions") Collection<Integer> partitions,
+                                   @Param("afterId") long afterId,
+                                   Pageable pageable);
+
+    /**
+     * Finds a page of the scheduling fields of active Dutch auctions in the
+     * given partitions, paged by ID. Whether one has hit its floor price is
+     * worked out from its price schedule by the caller.
+     *
+     * @param afterId Only auctions with a greater ID are returned; 0 for the first page.
+     */
+    @Query("SELECT a.id AS id, a.status AS status, a.startTime AS startTime, a.auctionEndTime AS auctionEndTime, " +
+           "a.auctionType AS auctionType, a.startingBidPrice AS startingBidPrice, a.priceDecrement AS priceDecrement, " +
+           "a.minimumPrice AS minimumPrice, a.priceTickSeconds AS priceTickSeconds FROM Auction a " +
+           "WHERE a.status = com.finalcall.auctionservice.entity.AuctionStatus.ACTIVE " +
+           "AND a.auctionType = com.finalcall.auctionservice.entity.AuctionType.DUTCH " +
+           "AND MOD(a.id, :partitionCount) IN :partitions AND a.id > :afterId ORDER BY a.id")
+    List<AuctionSchedule> findActiveDutchSchedules(@Param("partitionCount") int partitionCount,
+                                                   @Param("partitions") Collection<Integer> partitions,
+                                                   @Param("afterId") long afterId,
+                                                   Pageable pageable);
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+// src/main/java/com/finalcall/auctionservice/repository/AuctionSchedule.java
+
+package com.finalcall.auctionservice.repository;
+
+import com.finalcall.auctionservice.entity.AuctionStatus;
+import com.finalcall.auctionservice.entity.AuctionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the fields needed to schedule an auction's lifecycle timers,
+ * so that startup does not have to load whole auctions.
+ */
+public interface AuctionSchedule {
+    Long getId();
+    AuctionStatus getStatus();
+    LocalDateTime getStartTime();
+    LocalDateTime getAuctionEndTime();
+
+    // Dutch price schedule, to work out when the price hits the floor
+    AuctionType getAuctionType();
+    Double getStartingBidPrice();
+    Double getPriceDecrement();
+    Double getMinimumPrice();
+    Integer getPriceTickSeconds();
+}
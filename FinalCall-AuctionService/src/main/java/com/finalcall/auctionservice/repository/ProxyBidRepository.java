@@ -0,0 +1,14 @@
+// src/main/java/com/finalcall/auctionservice/repository/ProxyBidRepository.java
+
+package com.finalcall.auctionservice.repository;
+
+import com.finalcall.auctionservice.entity.ProxyBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProxyBidRepository extends JpaRepository<ProxyBid, Long> {
+    List<ProxyBid> findByAuctionIdOrderByIdAsc(Long auctionId);
+}
@@ -0,0 +1,41 @@
+// src/main/java/com/finalcall/auctionservice/repository/SchedulerLeaseRepository.java
+
+package com.finalcall.auctionservice.repository;
+
+import com.finalcall.auctionservice.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, Integer> {
+
+    /**
+     * Takes or renews a lease in a single conditional UPDATE. Succeeds if the
+     * caller already holds the lease or it is free or expired.
+     *
+     * @return 1 if the caller now holds the lease, 0 if another instance does.
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.expiresAt = :expiresAt " +
+           "WHERE l.partitionId = :partitionId AND (l.owner = :owner OR l.owner IS NULL OR l.expiresAt < :now)")
+    int acquire(@Param("partitionId") Integer partitionId,
+                @Param("owner") String owner,
+                @Param("expiresAt") LocalDateTime expiresAt,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * Gives up a lease so another instance can take it without waiting for it to expire.
+     *
+     * @return 1 if the lease was released, 0 if the caller did not hold it.
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = NULL, l.expiresAt = NULL " +
+           "WHERE l.partitionId = :partitionId AND l.owner = :owner")
+    int release(@Param("partitionId") Integer partitionId,
+                @Param("owner") String owner);
+}
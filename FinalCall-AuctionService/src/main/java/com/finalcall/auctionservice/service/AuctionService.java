@@ -1,27 +1,49 @@
 package com.finalcall.auctionservice.service;
 
-import com.finalcall.auctionservice.client.CatalogueServiceClient;
-import com.finalcall.auctionservice.client.AuthenticationServiceClient;
+import com.finalcall.auctionservice.client.CoalescingCatalogueClient;
+import com.finalcall.auctionservice.client.UserProfileCache;
+import com.finalcall.auctionservice.cluster.LeaseCoordinator;
 import com.finalcall.auctionservice.dto.*;
+import com.finalcall.auctionservice.engine.BidEngine;
+import com.finalcall.auctionservice.engine.BidWriter;
+import com.finalcall.auctionservice.engine.LiveAuction;
 import com.finalcall.auctionservice.entity.*;
 import com.finalcall.auctionservice.event.AuctionUpdatedEvent;
+import com.finalcall.auctionservice.event.PartitionsAcquiredEvent;
 import com.finalcall.auctionservice.exception.AuctionNotActiveException;
+import com.finalcall.auctionservice.exception.BidConflictException;
 import com.finalcall.auctionservice.exception.AuctionNotFoundException;
 import com.finalcall.auctionservice.exception.InvalidBidException;
+import com.finalcall.auctionservice.journal.BidJournal;
+import com.finalcall.auctionservice.journal.JournalEntry;
+import com.finalcall.auctionservice.journal.JournalProjector;
 import com.finalcall.auctionservice.repository.AuctionRepository;
+import com.finalcall.auctionservice.repository.AuctionSchedule;
 import com.finalcall.auctionservice.repository.BidRepository;
+import com.finalcall.auctionservice.timer.AuctionTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class AuctionService {
+    private static final Logger logger = LoggerFactory.getLogger(AuctionService.class);
+
     @Autowired
     private AuctionRepository auctionRepository;
 
@@ -29,14 +51,38 @@ public class AuctionService {
     private BidRepository bidRepository;
 
     @Autowired
-    private CatalogueServiceClient catalogueServiceClient;
+    private CoalescingCatalogueClient coalescingCatalogueClient;
 
     @Autowired
-    private AuthenticationServiceClient authenticationServiceClient;
+    private UserProfileCache userProfileCache;
 
     @Autowired
     private ApplicationEventPublisher eventPublisher;
 
+    @Autowired
+    private BidEngine bidEngine;
+
+    @Autowired
+    private BidWriter bidWriter;
+
+    @Autowired
+    private BidJournal bidJournal;
+
+    @Autowired
+    private JournalProjector journalProjector;
+
+    @Autowired
+    private AuctionTimer auctionTimer;
+
+    @Autowired
+    private LeaseCoordinator leaseCoordinator;
+
+    @Value("${auction.proxy.increment:1.0}")
+    private double proxyIncrement;
+
+    @Value("${auction.timer.anti-sniping-seconds:60}")
+    private long antiSnipingSeconds;
+
     /**
      * Creates a new auction based on the provided AuctionDTO.
      *
@@ -56,62 +102,254 @@ public class AuctionService {
         } else if (auctionDTO.getAuctionType() == AuctionType.DUTCH) {
             auction.setCurrentBidPrice(auctionDTO.getStartingBidPrice());
 
-            // Set price decrement and minimum price for Dutch auctions
+            // Set the price schedule for Dutch auctions
             auction.setPriceDecrement(auctionDTO.getPriceDecrement());
             auction.setMinimumPrice(auctionDTO.getMinimumPrice());
+            auction.setPriceTickSeconds(auctionDTO.getPriceTickSeconds());
         }
 
         auction.setAuctionEndTime(auctionDTO.getAuctionEndTime());
         auction.setSellerId(auctionDTO.getSellerId());
         auction.setStartTime(auctionDTO.getStartTime());
-        auction.setStatus(AuctionStatus.ACTIVE);
+        if (auction.getStartTime() == null && auction.getAuctionType() == AuctionType.DUTCH) {
+            // The Dutch price schedule counts from the start time
+            auction.setStartTime(LocalDateTime.now());
+        }
+
+        // Auctions starting in the future open when their start timer fires
+        boolean startsLater = auction.getStartTime() != null && auction.getStartTime().isAfter(LocalDateTime.now());
+        auction.setStatus(startsLater ? AuctionStatus.SCHEDULED : AuctionStatus.ACTIVE);
 
         // Save auction
         Auction savedAuction = auctionRepository.save(auction);
+        // Another instance's sweep picks the auction up if its partition is not ours
+        if (leaseCoordinator.owns(savedAuction.getId())) {
+            scheduleTimers(savedAuction.getId(), savedAuction.getStatus(),
+                savedAuction.getStartTime(), DutchPricing.closingTime(savedAuction));
+        }
 
-        // Publish the event
-        eventPublisher.publishEvent(new AuctionUpdatedEvent(this, savedAuction));
+        // Publish a detached copy; it is broadcast after commit on another thread
+        eventPublisher.publishEvent(new AuctionUpdatedEvent(this, new Auction(savedAuction)));
 
         return savedAuction;
     }
 
+    /**
+     * Schedules start and end timers for every auction that has not ended in
+     * the partitions this instance holds. This is the only query the timers
+     * need; from then on they are driven by the timing wheel rather than by
+     * polling the table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void scheduleAuctionTimers() {
+        scheduleTimersFor(leaseCoordinator.getOwnedPartitions());
+    }
+
+    /**
+     * Takes over the timers of partitions acquired from another instance.
+     */
+    @EventListener
+    @Order(1)
+    public void onPartitionsAcquired(PartitionsAcquiredEvent event) {
+        scheduleTimersFor(event.getPartitions());
+    }
+
+    private void scheduleTimersFor(Set<Integer> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        List<AuctionSchedule> open = auctionRepository.findOpenSchedules(leaseCoordinator.getPartitionCount(), partitions);
+        for (AuctionSchedule schedule : open) {
+            LocalDateTime floorTime = schedule.getAuctionType() == AuctionType.DUTCH
+                ? DutchPricing.floorTime(schedule.getStartingBidPrice(), schedule.getPriceDecrement(),
+                    schedule.getMinimumPrice(), schedule.getStartTime(), schedule.getPriceTickSeconds())
+                : null;
+            scheduleTimers(schedule.getId(), schedule.getStatus(), schedule.getStartTime(),
+                DutchPricing.earlierOf(schedule.getAuctionEndTime(), floorTime));
+        }
+        logger.info("Scheduled lifecycle timers for {} open auctions in partitions {}", open.size(), partitions);
+    }
+
+    private void scheduleTimers(Long auctionId, AuctionStatus status, LocalDateTime startTime, LocalDateTime closingTime) {
+        if (status == AuctionStatus.SCHEDULED && startTime != null) {
+            auctionTimer.schedule(startTime, () -> startAuction(auctionId));
+        }
+        if (status != AuctionStatus.ENDED && closingTime != null) {
+            auctionTimer.schedule(closingTime, () -> closeAuction(auctionId));
+        }
+    }
+
+    /**
+     * Start timer: opens a scheduled auction for bidding.
+     * Runs on the timer thread and only hands the change to the bid engine.
+     * Timers of partitions this instance has lost are dropped; the new owner
+     * schedules its own.
+     */
+    private void startAuction(Long auctionId) {
+        if (!leaseCoordinator.owns(auctionId)) {
+            return;
+        }
+        activateIfDue(auctionId, true).exceptionally(e -> {
+            logger.warn("Failed to start auction {}", auctionId, e);
+            return null;
+        });
+    }
+
+    /**
+     * Opens a scheduled auction through the bid engine if its start time has passed.
+     *
+     * @param auctionId The ID of the auction.
+     * @return A future completed with true once this call has opened the auction.
+     */
+    public CompletableFuture<Boolean> activateIfDue(Long auctionId) {
+        return activateIfDue(auctionId, false);
+    }
+
+    private CompletableFuture<Boolean> activateIfDue(Long auctionId, boolean reschedule) {
+        return bidEngine.submit(auctionId, live -> {
+            Auction auction = live.getAuction();
+            if (auction.getStatus() != AuctionStatus.SCHEDULED) {
+                return CompletableFuture.<BidOutcome>completedFuture(null);
+            }
+            if (LocalDateTime.now().isBefore(auction.getStartTime())) {
+                if (reschedule) {
+                    auctionTimer.schedule(auction.getStartTime(), () -> startAuction(auctionId));
+                }
+                return CompletableFuture.<BidOutcome>completedFuture(null);
+            }
+            auction.setStatus(AuctionStatus.ACTIVE);
+            return persist(live, List.of());
+        }).thenCompose(Function.identity()).thenCompose(outcome ->
+            // The auction changed underneath the engine's copy, which has been dropped; retry from the stored state
+            outcome == BidOutcome.OUTBID
+                ? activateIfDue(auctionId, reschedule)
+                : CompletableFuture.completedFuture(outcome == BidOutcome.ACCEPTED));
+    }
+
+    /**
+     * End timer: closes an auction at its end time, or a Dutch auction when its
+     * price hits the floor. Timers are not cancelled when a late bid extends the
+     * auction; the stale timer notices the new end time and reschedules itself instead.
+     */
+    private void closeAuction(Long auctionId) {
+        if (!leaseCoordinator.owns(auctionId)) {
+            return;
+        }
+        closeIfDue(auctionId, true).exceptionally(e -> {
+            logger.warn("Failed to close auction {}", auctionId, e);
+            return null;
+        });
+    }
+
+    /**
+     * Closes an auction through the bid engine if its end time has passed, or,
+     * for a Dutch auction, its price has hit the floor. A Dutch auction is
+     * recorded at the price it closed at.
+     *
+     * @param auctionId The ID of the auction.
+     * @return A future completed with true once this call has closed the auction.
+     */
+    public CompletableFuture<Boolean> closeIfDue(Long auctionId) {
+        return closeIfDue(auctionId, false);
+    }
+
+    private CompletableFuture<Boolean> closeIfDue(Long auctionId, boolean reschedule) {
+        return bidEngine.submit(auctionId, live -> {
+            Auction auction = live.getAuction();
+            if (auction.getStatus() == AuctionStatus.ENDED) {
+                return CompletableFuture.<BidOutcome>completedFuture(null);
+            }
+            LocalDateTime closingTime = DutchPricing.closingTime(auction);
+            if (LocalDateTime.now().isBefore(closingTime)) {
+                if (reschedule) {
+                    auctionTimer.schedule(closingTime, () -> closeAuction(auctionId));
+                }
+                return CompletableFuture.<BidOutcome>completedFuture(null);
+            }
+            endAuction(auction);
+            return persist(live, List.of());
+        }).thenCompose(Function.identity()).thenCompose(outcome ->
+            // A bid taken elsewhere changed the auction, e.g. extended it; re-check against the stored state
+            outcome == BidOutcome.OUTBID
+                ? closeIfDue(auctionId, reschedule)
+                : CompletableFuture.completedFuture(outcome == BidOutcome.ACCEPTED));
+    }
+
     /**
      * Places a bid on an auction.
+     * The bid is evaluated by the in-memory bid engine on the auction's shard
+     * thread and returns once it is durable, either in the group commit
+     * containing it or in the bid journal.
      *
      * @param auctionId  The ID of the auction.
      * @param bidRequest The bid details.
      * @return BidResponse indicating the result.
      */
-    @Transactional
     public BidResponse placeBid(Long auctionId, BidRequest bidRequest) {
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new AuctionNotFoundException("Auction not found with ID: " + auctionId));
+        return retryOnConflict(() -> await(bidEngine.submit(auctionId, live -> evaluateBid(live, bidRequest))
+                .thenCompose(Function.identity())));
+    }
+
+    /**
+     * Validates and applies a bid against the live auction state.
+     * Runs on the auction's shard thread.
+     */
+    private CompletableFuture<BidResponse> evaluateBid(LiveAuction live, BidRequest bidRequest) {
+        Auction auction = live.getAuction();
+        checkBiddingOpen(live);
+
+        if (auction.getAuctionType() == AuctionType.FORWARD) {
+            return handleForwardAuctionBid(live, bidRequest);
+        } else if (auction.getAuctionType() == AuctionType.DUTCH) {
+            return handleDutchAuctionBid(live, bidRequest);
+        }
+
+        throw new UnsupportedOperationException("Unsupported auction type");
+    }
+
+    /**
+     * Rejects commands against an auction that is no longer taking bids,
+     * persisting the end of an auction whose time has run out.
+     */
+    private void checkBiddingOpen(LiveAuction live) {
+        Auction auction = live.getAuction();
+
+        if (auction.getStatus() == AuctionStatus.SCHEDULED) {
+            throw new AuctionNotActiveException("This auction has not started yet");
+        }
 
         // Check if auction is active
         if (auction.getStatus() != AuctionStatus.ACTIVE) {
             throw new AuctionNotActiveException("This auction is no longer active");
         }
 
-        // Check if auction has ended
-        if (LocalDateTime.now().isAfter(auction.getAuctionEndTime())) {
-            auction.setStatus(AuctionStatus.ENDED);
-            auctionRepository.save(auction);
+        // Check if auction has ended, or a Dutch auction has hit its floor
+        if (!LocalDateTime.now().isBefore(DutchPricing.closingTime(auction))) {
+            endAuction(auction);
+            persist(live, List.of());
             throw new AuctionNotActiveException("This auction has ended");
         }
+    }
 
-        if (auction.getAuctionType() == AuctionType.FORWARD) {
-            return handleForwardAuctionBid(auction, bidRequest);
-        } else if (auction.getAuctionType() == AuctionType.DUTCH) {
-            return handleDutchAuctionBid(auction, bidRequest);
+    /**
+     * Marks an auction as ended. A Dutch auction that nobody bought is recorded
+     * at the price it closed at, which is the minimum price if it got there.
+     */
+    private static void endAuction(Auction auction) {
+        if (auction.getAuctionType() == AuctionType.DUTCH) {
+            auction.setCurrentBidPrice(DutchPricing.priceAt(auction, DutchPricing.closingTime(auction)));
         }
-
-        throw new UnsupportedOperationException("Unsupported auction type");
+        auction.setStatus(AuctionStatus.ENDED);
     }
 
     /**
      * Handles bid placement for forward auctions.
+     * Registered proxy maximums respond to the bid in the same step.
      */
-    private BidResponse handleForwardAuctionBid(Auction auction, BidRequest bidRequest) {
+    private CompletableFuture<BidResponse> handleForwardAuctionBid(LiveAuction live, BidRequest bidRequest) {
+        Auction auction = live.getAuction();
+
         // Validate bid amount
         if (bidRequest.getBidAmount() <= auction.getCurrentBidPrice()) {
             throw new InvalidBidException("Bid must be higher than current bid of $" + 
@@ -121,69 +359,179 @@ public class AuctionService {
         // Update auction
         auction.setCurrentBidPrice(bidRequest.getBidAmount());
         auction.setCurrentBidderId(bidRequest.getBidderId());
-        
-        // Save bid
-        Bid bid = new Bid(bidRequest.getBidAmount(), auction.getId(), bidRequest.getBidderId());
-        bidRepository.save(bid);
-        
-        // Save auction
-        auctionRepository.save(auction);
 
-        // Publish event
-        eventPublisher.publishEvent(new AuctionUpdatedEvent(this, auction));
+        List<Bid> bids = new ArrayList<>();
+        bids.add(new Bid(bidRequest.getBidAmount(), auction.getId(), bidRequest.getBidderId()));
+        bids.addAll(ProxyResolution.resolve(live, proxyIncrement));
+        extendIfSniped(auction);
+
+        // Persist the bid, any implied proxy bids and the final price in the next group commit
+        BidResponse response = bidRequest.getBidderId().equals(auction.getCurrentBidderId())
+            ? new BidResponse("Bid placed successfully", auction.getCurrentBidPrice())
+            : new BidResponse("Bid placed but outbid by another bidder's maximum bid",
+                auction.getCurrentBidPrice(), BidOutcome.OUTBID);
+        return persist(live, bids).thenApply(outcome -> confirm(outcome, response));
+    }
+
+    /**
+     * Registers or raises a bidder's maximum bid on a forward auction.
+     * The service bids on the bidder's behalf, one increment at a time, up to
+     * that maximum whenever someone else bids.
+     *
+     * @param auctionId       The ID of the auction.
+     * @param proxyBidRequest The maximum bid details.
+     * @return BidResponse with the resulting price and whether the bidder leads.
+     */
+    public BidResponse placeProxyBid(Long auctionId, ProxyBidRequest proxyBidRequest) {
+        return retryOnConflict(() -> await(bidEngine.submit(auctionId, live -> evaluateProxyBid(live, proxyBidRequest))
+                .thenCompose(Function.identity())));
+    }
+
+    /**
+     * Runs a bidding command once more if the database rejected it because the
+     * engine's copy of the auction was stale, e.g. after a bid or proxy
+     * registration taken by another instance. The stale copy has been dropped
+     * by then, so the retry is evaluated against the stored state.
+     */
+    private BidResponse retryOnConflict(Supplier<BidResponse> command) {
+        try {
+            return command.get();
+        } catch (BidConflictException e) {
+            return command.get();
+        }
+    }
+
+    /**
+     * Validates a proxy registration and resolves the bidding it triggers.
+     * Runs on the auction's shard thread.
+     */
+    private CompletableFuture<BidResponse> evaluateProxyBid(LiveAuction live, ProxyBidRequest proxyBidRequest) {
+        Auction auction = live.getAuction();
+        checkBiddingOpen(live);
+
+        if (auction.getAuctionType() != AuctionType.FORWARD) {
+            throw new InvalidBidException("Maximum bids are only supported for forward auctions");
+        }
+        if (proxyBidRequest.getMaxAmount() <= auction.getCurrentBidPrice()) {
+            throw new InvalidBidException("Maximum bid must be higher than current bid of $" +
+                auction.getCurrentBidPrice());
+        }
+
+        live.registerProxy(proxyBidRequest.getBidderId(), proxyBidRequest.getMaxAmount());
+
+        List<Bid> bids = ProxyResolution.resolve(live, proxyIncrement);
+        BidResponse response = proxyBidRequest.getBidderId().equals(auction.getCurrentBidderId())
+            ? new BidResponse("Maximum bid registered", auction.getCurrentBidPrice())
+            : new BidResponse("Maximum bid was outbid by another bidder's maximum bid",
+                auction.getCurrentBidPrice(), BidOutcome.OUTBID);
+        if (!bids.isEmpty()) {
+            extendIfSniped(auction);
+        }
+        // Persisted even if no bid was implied, so the registration survives a reload
+        return persist(live, bids).thenApply(outcome -> confirm(outcome, response));
+    }
 
-        return new BidResponse("Bid placed successfully", auction.getCurrentBidPrice());
+    /**
+     * Anti-sniping: a bid in the final seconds of an auction pushes the end
+     * time out so that other bidders get a chance to respond.
+     */
+    private void extendIfSniped(Auction auction) {
+        if (antiSnipingSeconds <= 0) {
+            return;
+        }
+        LocalDateTime extendedEnd = LocalDateTime.now().plusSeconds(antiSnipingSeconds);
+        if (auction.getAuctionEndTime().isBefore(extendedEnd)) {
+            auction.setAuctionEndTime(extendedEnd);
+        }
     }
 
     /**
      * Handles bid placement for Dutch auctions.
      */
-    private BidResponse handleDutchAuctionBid(Auction auction, BidRequest bidRequest) {
+    private CompletableFuture<BidResponse> handleDutchAuctionBid(LiveAuction live, BidRequest bidRequest) {
+        Auction auction = live.getAuction();
+
         // For Dutch auctions, the bid must equal the current price
-        if (bidRequest.getBidAmount().compareTo(auction.getCurrentBidPrice()) != 0) {
+        double currentPrice = DutchPricing.priceAt(auction, LocalDateTime.now());
+        if (bidRequest.getBidAmount().compareTo(currentPrice) != 0) {
             throw new InvalidBidException("For Dutch auctions, bid must equal current price of $" + 
-                auction.getCurrentBidPrice());
+                currentPrice);
         }
 
         // End the auction immediately as Dutch auctions end on first valid bid
+        auction.setCurrentBidPrice(currentPrice);
         auction.setStatus(AuctionStatus.ENDED);
         auction.setCurrentBidderId(bidRequest.getBidderId());
-        
-        // Save bid
+
+        // Persist bid and auction in the next group commit
         Bid bid = new Bid(bidRequest.getBidAmount(), auction.getId(), bidRequest.getBidderId());
-        bidRepository.save(bid);
-        
-        // Save auction
-        auctionRepository.save(auction);
+        BidResponse response = new BidResponse("Dutch auction won", auction.getCurrentBidPrice());
+        return persist(live, List.of(bid)).thenApply(outcome -> confirm(outcome, response));
+    }
 
-        // Publish event
-        eventPublisher.publishEvent(new AuctionUpdatedEvent(this, auction));
+    /**
+     * Hands the live auction's new state to the persistence layer.
+     * <p>
+     * In journal mode the change is acknowledged as soon as it is durable in the
+     * bid journal; the database projection is updated behind it. Otherwise it is
+     * group-committed to the database, and if the database rejects the change,
+     * another writer got there first, so the engine's copy is dropped and
+     * reloaded on the next command.
+     */
+    private CompletableFuture<BidOutcome> persist(LiveAuction live, List<Bid> bids) {
+        // The row's version goes up by one with every write; the copy follows it so the next write can be guarded by it
+        Auction auction = live.getAuction();
+        auction.setVersion((auction.getVersion() == null ? 0 : auction.getVersion()) + 1);
+        Auction snapshot = live.snapshot();
+        bids.forEach(bid -> bid.setAuctionVersion(snapshot.getVersion()));
+        Map<Long, Double> proxyMaximums = live.proxySnapshot();
+        if (bidJournal.isEnabled()) {
+            JournalEntry entry = new JournalEntry(snapshot, bids, proxyMaximums);
+            return bidJournal.append(entry).thenApply(offset -> {
+                CompletableFuture<Void> projected = journalProjector.project(offset, entry);
+                if (snapshot.getStatus() == AuctionStatus.ENDED) {
+                    // The database lags the journal, so the engine holds the auction until it has caught up
+                    projected.thenRun(() -> bidEngine.evict(snapshot.getId()));
+                }
+                return BidOutcome.ACCEPTED;
+            });
+        }
 
-        return new BidResponse("Dutch auction won", auction.getCurrentBidPrice());
+        Long auctionId = snapshot.getId();
+        // Dropped before callers see the outcome, so a retry they submit reloads the stored state.
+        // An ended auction takes no more changes, so it is dropped once stored to free the shard's memory.
+        return bidWriter.write(snapshot, bids, proxyMaximums).whenComplete((outcome, error) -> {
+            if (error != null || outcome != BidOutcome.ACCEPTED || snapshot.getStatus() == AuctionStatus.ENDED) {
+                bidEngine.evict(auctionId);
+            }
+        });
     }
 
     /**
-     * Scheduled task to decrease Dutch auction prices.
+     * Translates the durable outcome of a bid into the response or the matching rejection.
      */
-    @Scheduled(fixedRate = 60000) // Every minute
-    @Transactional
-    public void decreaseDutchAuctionPrices() {
-        List<Auction> activeDutchAuctions = auctionRepository
-            .findByAuctionTypeAndStatus(AuctionType.DUTCH, AuctionStatus.ACTIVE);
-
-        for (Auction auction : activeDutchAuctions) {
-            double newPrice = auction.getCurrentBidPrice() - auction.getPriceDecrement();
-            
-            if (newPrice <= auction.getMinimumPrice()) {
-                // End auction if price would go below minimum
-                auction.setCurrentBidPrice(auction.getMinimumPrice());
-                auction.setStatus(AuctionStatus.ENDED);
-            } else {
-                auction.setCurrentBidPrice(newPrice);
+    private static BidResponse confirm(BidOutcome outcome, BidResponse response) {
+        switch (outcome) {
+            case ACCEPTED:
+                return response;
+            case OUTBID:
+                throw new BidConflictException("Bid was outbid by a concurrent bid");
+            default:
+                throw new AuctionNotActiveException("This auction has ended");
+        }
+    }
+
+    /**
+     * Waits for an engine command and rethrows its failure unwrapped.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-            
-            auctionRepository.save(auction);
-            eventPublisher.publishEvent(new AuctionUpdatedEvent(this, auction));
+            throw e;
         }
     }
 
@@ -202,12 +550,28 @@ public class AuctionService {
         dto.setStartTime(auction.getStartTime());
         dto.setPriceDecrement(auction.getPriceDecrement());
         dto.setMinimumPrice(auction.getMinimumPrice());
+        if (auction.getAuctionType() == AuctionType.DUTCH) {
+            // Clients get the price schedule and work out later prices themselves
+            dto.setPriceTickSeconds(DutchPricing.tickSeconds(auction));
+            dto.setPriceFloorTime(DutchPricing.floorTime(auction));
+            if (auction.getStatus() != AuctionStatus.ENDED) {
+                dto.setCurrentBidPrice(DutchPricing.priceAt(auction, LocalDateTime.now()));
+            }
+        }
         dto.setCurrentBidderId(auction.getCurrentBidderId());
         dto.setImageUrls(auction.getImageUrls());
         dto.setStatus(auction.getStatus().name());
         return dto;
     }
 
+    /**
+     * Loads an auction by its ID and maps it to AuctionDTO.
+     */
+    @Transactional(readOnly = true)
+    public Optional<AuctionDTO> findAuctionDTO(Long auctionId) {
+        return auctionRepository.findById(auctionId).map(this::mapToDTO);
+    }
+
     /**
      * Finds an auction by its associated item ID.
      */
@@ -215,21 +579,43 @@ public class AuctionService {
         return auctionRepository.findByItemId(itemId);
     }
 
+    /**
+     * Loads the auctions of many items in one query and maps them to AuctionDTOs.
+     * Items without an auction are omitted.
+     */
+    @Transactional(readOnly = true)
+    public List<AuctionDTO> findAuctionDTOsByItemIds(Collection<Long> itemIds) {
+        return auctionRepository.findByItemIdIn(itemIds).stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Retrieves all bids for a specific auction.
      */
     public List<BidDTO> getBidsForAuction(Long auctionId) {
-        List<Bid> bids = bidRepository.findByAuctionIdOrderByTimestampDesc(auctionId);
+        return mapBidsToDTOs(bidRepository.findByAuctionIdOrderByTimestampDesc(auctionId));
+    }
+
+    /**
+     * Maps Bid entities to BidDTOs, resolving the bidders' usernames through
+     * the profile cache with one batch call for all misses.
+     */
+    public List<BidDTO> mapBidsToDTOs(List<Bid> bids) {
+        Map<Long, UserDTO> bidders = userProfileCache.getUsers(bids.stream()
+                .map(Bid::getBidderId)
+                .collect(Collectors.toSet()));
         return bids.stream()
                 .map(bid -> {
-                    UserDTO user = authenticationServiceClient.getUserById(bid.getBidderId());
-                    return new BidDTO(
+                    UserDTO bidder = bidders.get(bid.getBidderId());
+                    BidDTO bidDTO = new BidDTO(
                             bid.getId(),
                             bid.getAmount(),
                             bid.getBidderId(),
-                            user != null ? user.getUsername() : "Unknown",
-                            bid.getTimestamp()
-                    );
+                            bidder != null && bidder.getUsername() != null ? bidder.getUsername() : "Unknown",
+                            bid.getTimestamp());
+                    bidDTO.setAuctionVersion(bid.getAuctionVersion());
+                    return bidDTO;
                 })
                 .collect(Collectors.toList());
     }
@@ -256,7 +642,7 @@ public class AuctionService {
                 
                 try {
                     // Fetch item details from the Catalogue Service
-                    ItemDTO itemDTO = catalogueServiceClient.getItemById(auction.getItemId());
+                    ItemDTO itemDTO = coalescingCatalogueClient.getItemById(auction.getItemId());
                     auctionDTO.setItem(itemDTO);
                 } catch (Exception e) {
                     // Handle potential errors in fetching item details
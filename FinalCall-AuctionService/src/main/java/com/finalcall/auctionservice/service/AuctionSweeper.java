@@ -0,0 +1,200 @@
+// src/main/java/com/finalcall/auctionservice/service/AuctionSweeper.java
+
+package com.finalcall.auctionservice.service;
+
+import com.finalcall.auctionservice.cluster.LeaseCoordinator;
+import com.finalcall.auctionservice.entity.AuctionStatus;
+import com.finalcall.auctionservice.event.PartitionsAcquiredEvent;
+import com.finalcall.auctionservice.repository.AuctionRepository;
+import com.finalcall.auctionservice.repository.AuctionSchedule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Catch-up for auctions whose start or end time has passed.
+ * The auction timers start and close auctions one at a time; this sweep
+ * handles the backlog they cannot, e.g. after a restart or an outage. It
+ * selects due auctions page by page, then hands each transition to the bid
+ * engine, exactly as the timers do, so it goes through the journal or group
+ * commit and never races a bid the engine is applying. It only touches
+ * auctions in the partitions this instance holds leases on.
+ */
+@Service
+public class AuctionSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuctionSweeper.class);
+
+    private static final List<AuctionStatus> OPEN_STATUSES = List.of(AuctionStatus.SCHEDULED, AuctionStatus.ACTIVE);
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private LeaseCoordinator leaseCoordinator;
+
+    @Value("${auction.sweep.page-size:500}")
+    private int pageSize;
+
+    /**
+     * Runs the sweep once on startup, before the auction timers are scheduled,
+     * so the timers only see auctions that are still open.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void sweepOnStartup() {
+        sweep();
+    }
+
+    /**
+     * Catches up on partitions taken over from another instance before their
+     * timers are scheduled.
+     */
+    @EventListener
+    @Order(0)
+    public void onPartitionsAcquired(PartitionsAcquiredEvent event) {
+        sweep();
+    }
+
+    /**
+     * Periodic catch-up for missed timers. With several instances, this is also
+     * how an auction created on one instance gets started and closed when its
+     * partition, and so its timers, belong to another.
+     */
+    @Scheduled(fixedDelayString = "${auction.sweep.interval-ms:60000}",
+               initialDelayString = "${auction.sweep.interval-ms:60000}")
+    public void sweep() {
+        activateDueAuctions();
+        closeExpiredAuctions();
+    }
+
+    /**
+     * Ends every open auction in this instance's partitions whose end time has
+     * passed, and every active Dutch auction whose price has hit its floor.
+     *
+     * @return The number of auctions closed.
+     */
+    public int closeExpiredAuctions() {
+        Set<Integer> partitions = leaseCoordinator.getOwnedPartitions();
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int partitionCount = leaseCoordinator.getPartitionCount();
+        int total = transitionInPages(
+                (afterId, page) -> auctionRepository.findExpiredIds(OPEN_STATUSES, now, partitionCount, partitions, afterId, page),
+                auctionService::closeIfDue);
+        // A Dutch auction closes at its floor, which can come before its end time
+        total += transitionInPages(
+                (afterId, page) -> floorReachedIds(partitionCount, partitions, afterId, page, now),
+                auctionService::closeIfDue);
+        if (total > 0) {
+            logger.info("Closing sweep ended {} expired auctions", total);
+        }
+        return total;
+    }
+
+    /**
+     * Opens every scheduled auction in this instance's partitions whose start time has passed.
+     *
+     * @return The number of auctions activated.
+     */
+    public int activateDueAuctions() {
+        Set<Integer> partitions = leaseCoordinator.getOwnedPartitions();
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int partitionCount = leaseCoordinator.getPartitionCount();
+        int total = transitionInPages(
+                (afterId, page) -> auctionRepository.findDueScheduledIds(now, partitionCount, partitions, afterId, page),
+                auctionService::activateIfDue);
+        if (total > 0) {
+            logger.info("Sweep activated {} scheduled auctions", total);
+        }
+        return total;
+    }
+
+    /**
+     * Selects the active Dutch auctions of a page whose price has hit the floor.
+     * The page may come back empty while later pages still hold such auctions,
+     * so an empty result is only returned once the scan is done.
+     */
+    private List<Long> floorReachedIds(int partitionCount, Set<Integer> partitions, long afterId,
+                                       Pageable page, LocalDateTime now) {
+        long from = afterId;
+        while (true) {
+            List<AuctionSchedule> schedules = auctionRepository.findActiveDutchSchedules(partitionCount, partitions, from, page);
+            if (schedules.isEmpty()) {
+                return List.of();
+            }
+            List<Long> ids = new ArrayList<>();
+            for (AuctionSchedule schedule : schedules) {
+                LocalDateTime floorTime = DutchPricing.floorTime(schedule.getStartingBidPrice(),
+                    schedule.getPriceDecrement(), schedule.getMinimumPrice(), schedule.getStartTime(),
+                    schedule.getPriceTickSeconds());
+                if (floorTime != null && !floorTime.isAfter(now)) {
+                    ids.add(schedule.getId());
+                }
+            }
+            if (!ids.isEmpty()) {
+                return ids;
+            }
+            from = schedules.get(schedules.size() - 1).getId();
+        }
+    }
+
+    /**
+     * Hands the auctions of each page to the bid engine and waits for the page
+     * to be persisted before selecting the next one. The engine re-checks each
+     * auction against its live state and skips those that are no longer due.
+     *
+     * @param selectPage Selects the IDs after the given one, in ID order.
+     * @param transition Moves one auction on if it is due.
+     * @return The number of auctions moved on.
+     */
+    private int transitionInPages(BiFunction<Long, Pageable, List<Long>> selectPage,
+                                  Function<Long, CompletableFuture<Boolean>> transition) {
+        int total = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = selectPage.apply(afterId, PageRequest.of(0, pageSize));
+            if (ids.isEmpty()) {
+                return total;
+            }
+            List<CompletableFuture<Boolean>> results = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                results.add(transition.apply(id));
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                try {
+                    if (results.get(i).join()) {
+                        total++;
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Sweep failed to move auction {} on", ids.get(i), e);
+                }
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+}
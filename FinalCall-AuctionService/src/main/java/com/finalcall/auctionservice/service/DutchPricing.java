@@ -0,0 +1,113 @@
+// src/main/java/com/finalcall/auctionservice/service/DutchPricing.java
+
+package com.finalcall.auctionservice.service;
+
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.AuctionType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Closed-form Dutch auction price schedule.
+ * The price drops by {@code priceDecrement} once every {@code priceTickSeconds},
+ * counted from {@code startTime}, and never goes below {@code minimumPrice}.
+ * Because the price is a pure function of time, it is computed when it is read
+ * or bid on instead of being written to the database on every tick.
+ */
+public final class DutchPricing {
+
+    /**
+     * Tick interval for auctions created without one; matches the old per-minute decrement.
+     */
+    public static final int DEFAULT_TICK_SECONDS = 60;
+
+    private DutchPricing() {
+    }
+
+    /**
+     * Computes the asking price of a Dutch auction at the given time.
+     *
+     * @param auction The Dutch auction.
+     * @param at      The time to price at.
+     * @return The price, rounded to cents.
+     */
+    public static double priceAt(Auction auction, LocalDateTime at) {
+        double startingPrice = auction.getStartingBidPrice();
+        LocalDateTime startTime = auction.getStartTime();
+        if (startTime == null || at.isBefore(startTime) || !hasDecrement(auction)) {
+            return startingPrice;
+        }
+        long ticks = Duration.between(startTime, at).getSeconds() / tickSeconds(auction);
+        double price = startingPrice - ticks * auction.getPriceDecrement();
+        return roundToCents(Math.max(minimumPrice(auction), price));
+    }
+
+    /**
+     * Computes when the price first reaches the minimum price, at which point
+     * the auction ends.
+     *
+     * @param auction The Dutch auction.
+     * @return The floor time, or null if the price never drops.
+     */
+    public static LocalDateTime floorTime(Auction auction) {
+        return floorTime(auction.getStartingBidPrice(), auction.getPriceDecrement(), auction.getMinimumPrice(),
+                auction.getStartTime(), auction.getPriceTickSeconds());
+    }
+
+    /**
+     * Computes when the price first reaches the minimum price.
+     *
+     * @return The floor time, or null if the price never drops.
+     */
+    public static LocalDateTime floorTime(Double startingPrice, Double priceDecrement, Double minimumPrice,
+                                          LocalDateTime startTime, Integer priceTickSeconds) {
+        if (startTime == null || priceDecrement == null || priceDecrement <= 0) {
+            return null;
+        }
+        double floor = minimumPrice != null ? minimumPrice : 0;
+        long ticks = Math.max(0, (long) Math.ceil((startingPrice - floor) / priceDecrement));
+        return startTime.plusSeconds(ticks * tickSeconds(priceTickSeconds));
+    }
+
+    /**
+     * Computes when an auction stops taking bids: its end time, or for a Dutch
+     * auction, the moment its price hits the floor if that comes first.
+     *
+     * @param auction The auction.
+     * @return The closing time.
+     */
+    public static LocalDateTime closingTime(Auction auction) {
+        if (auction.getAuctionType() != AuctionType.DUTCH) {
+            return auction.getAuctionEndTime();
+        }
+        return earlierOf(auction.getAuctionEndTime(), floorTime(auction));
+    }
+
+    static LocalDateTime earlierOf(LocalDateTime endTime, LocalDateTime floorTime) {
+        if (floorTime == null || (endTime != null && endTime.isBefore(floorTime))) {
+            return endTime;
+        }
+        return floorTime;
+    }
+
+    public static int tickSeconds(Auction auction) {
+        return tickSeconds(auction.getPriceTickSeconds());
+    }
+
+    private static int tickSeconds(Integer priceTickSeconds) {
+        return priceTickSeconds != null && priceTickSeconds > 0 ? priceTickSeconds : DEFAULT_TICK_SECONDS;
+    }
+
+    private static boolean hasDecrement(Auction auction) {
+        return auction.getPriceDecrement() != null && auction.getPriceDecrement() > 0;
+    }
+
+    private static double minimumPrice(Auction auction) {
+        return auction.getMinimumPrice() != null ? auction.getMinimumPrice() : 0;
+    }
+
+    private static double roundToCents(double price) {
+        return Math.round(price * 100) / 100.0;
+    }
+}
@@ -0,0 +1,85 @@
+// src/main/java/com/finalcall/auctionservice/service/ProxyResolution.java
+
+package com.finalcall.auctionservice.service;
+
+import com.finalcall.auctionservice.engine.LiveAuction;
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.Bid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Proxy (maximum) bidding for forward auctions. A pure function of the live
+ * auction's state, run on its shard thread.
+ */
+final class ProxyResolution {
+
+    private ProxyResolution() {
+    }
+
+    /**
+     * Resolves the chain of automatic increments between registered proxy
+     * maximums in one step, instead of bid by bid.
+     * <p>
+     * The highest maximum (the earliest one on a tie) wins at one increment over
+     * the strongest competitor, which is either the runner-up's maximum or the
+     * standing bid, capped at the winner's own maximum. A runner-up that was
+     * pushed to its maximum gets a bid row at that amount so the bidding history
+     * shows why the price moved. Exhausted proxies are dropped.
+     *
+     * @param live      The live auction; its price and leader are updated in place.
+     * @param increment The amount a proxy bids over the strongest competitor.
+     * @return The implied bids, in the order they would have been placed.
+     */
+    static List<Bid> resolve(LiveAuction live, double increment) {
+        Auction auction = live.getAuction();
+        Map<Long, Double> proxies = live.getProxyMaximums();
+        if (proxies.isEmpty()) {
+            return List.of();
+        }
+
+        Long topBidder = null;
+        double topMax = 0;
+        Long runnerUp = null;
+        double runnerUpMax = 0;
+        for (Map.Entry<Long, Double> proxy : proxies.entrySet()) {
+            if (topBidder == null || proxy.getValue() > topMax) {
+                runnerUp = topBidder;
+                runnerUpMax = topMax;
+                topBidder = proxy.getKey();
+                topMax = proxy.getValue();
+            } else if (runnerUp == null || proxy.getValue() > runnerUpMax) {
+                runnerUp = proxy.getKey();
+                runnerUpMax = proxy.getValue();
+            }
+        }
+
+        double price = auction.getCurrentBidPrice();
+        Long leader = auction.getCurrentBidderId();
+        boolean topLeads = topBidder.equals(leader);
+        List<Bid> implied = new ArrayList<>(2);
+
+        if (topLeads || topMax > price) {
+            // The standing bid competes too unless it belongs to the top proxy
+            double competitor = topLeads ? runnerUpMax : Math.max(runnerUpMax, price);
+            double newPrice = Math.max(price, Math.min(topMax, competitor + increment));
+
+            if (runnerUp != null && runnerUpMax > price) {
+                implied.add(new Bid(runnerUpMax, auction.getId(), runnerUp));
+            }
+            if (!topLeads || newPrice > price) {
+                implied.add(new Bid(newPrice, auction.getId(), topBidder));
+                auction.setCurrentBidPrice(newPrice);
+                auction.setCurrentBidderId(topBidder);
+            }
+        }
+
+        double finalPrice = auction.getCurrentBidPrice();
+        Long finalLeader = auction.getCurrentBidderId();
+        proxies.entrySet().removeIf(proxy ->
+            !proxy.getKey().equals(finalLeader) && proxy.getValue() <= finalPrice);
+        return implied;
+    }
+}
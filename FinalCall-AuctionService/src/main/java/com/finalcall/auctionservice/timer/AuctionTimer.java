@@ -0,0 +1,94 @@
+// src/main/java/com/finalcall/auctionservice/timer/AuctionTimer.java
+
+package com.finalcall.auctionservice.timer;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fires auction lifecycle timers (start, end) from a hierarchical timing wheel.
+ * <p>
+ * Timers are handed to a single "auction-timer" thread through a lock-free
+ * queue and placed on the wheel in O(1). Timers are never cancelled: a task
+ * re-checks the auction's state when it fires and reschedules itself if the
+ * deadline has moved, e.g. after an anti-sniping extension. Tasks run on the
+ * timer thread and must only hand work off, never block.
+ */
+@Component
+public class AuctionTimer implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuctionTimer.class);
+
+    private final ConcurrentLinkedQueue<PendingTimer> inbox = new ConcurrentLinkedQueue<>();
+    private final HierarchicalTimingWheel wheel;
+    private final long tickNanos;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public AuctionTimer(@Value("${auction.timer.tick-ms:100}") long tickMs,
+                        @Value("${auction.timer.wheel-size:64}") int wheelSize,
+                        @Value("${auction.timer.levels:4}") int levels) {
+        this.wheel = new HierarchicalTimingWheel(tickMs, wheelSize, levels, System.currentTimeMillis());
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.thread = new Thread(this, "auction-timer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Schedules a task to run at the given local time.
+     * A time in the past runs on the next tick.
+     *
+     * @param at   When to run the task.
+     * @param task The task; runs on the timer thread.
+     */
+    public void schedule(LocalDateTime at, Runnable task) {
+        long deadlineMs = at.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        inbox.offer(new PendingTimer(deadlineMs, task));
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            PendingTimer pending;
+            while ((pending = inbox.poll()) != null) {
+                wheel.schedule(pending.deadlineMs, pending.task);
+            }
+            for (Runnable task : wheel.advanceTo(System.currentTimeMillis())) {
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    logger.error("Auction timer task failed", t);
+                }
+            }
+            LockSupport.parkNanos(this, tickNanos);
+        }
+        logger.info("Auction timer stopped with {} pending timers", wheel.size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join();
+    }
+
+    private static class PendingTimer {
+        private final long deadlineMs;
+        private final Runnable task;
+
+        private PendingTimer(long deadlineMs, Runnable task) {
+            this.deadlineMs = deadlineMs;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+// src/main/java/com/finalcall/auctionservice/timer/HierarchicalTimingWheel.java
+
+package com.finalcall.auctionservice.timer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: a fixed stack of circular bucket arrays where each
+ * level's slot spans a whole revolution of the level below.
+ * <p>
+ * A timer is dropped into the slot of the coarsest level that can still tell
+ * it apart from "now", so scheduling is O(1) regardless of how many timers are
+ * pending or how far away they are. When a coarse slot comes round, its timers
+ * cascade down into finer levels until they reach level 0 and fire. Timers
+ * further out than the top level can represent are parked in the top level and
+ * re-placed every time their slot comes round.
+ * <p>
+ * Not thread-safe; the owner must confine it to a single thread.
+ */
+class HierarchicalTimingWheel {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long[] spans;
+    private final ArrayDeque<Entry>[][] levels;
+    private final List<Entry> due = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMs     Resolution of the wheel in milliseconds.
+     * @param wheelSize  Number of slots per level.
+     * @param levelCount Number of levels.
+     * @param startMs    The current time in epoch milliseconds.
+     */
+    @SuppressWarnings("unchecked")
+    HierarchicalTimingWheel(long tickMs, int wheelSize, int levelCount, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levelCount];
+        this.levels = new ArrayDeque[levelCount][wheelSize];
+        long span = 1;
+        for (int level = 0; level < levelCount; level++) {
+            spans[level] = span;
+            for (int slot = 0; slot < wheelSize; slot++) {
+                levels[level][slot] = new ArrayDeque<>();
+            }
+            span *= wheelSize;
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Schedules a task. A deadline in the past fires on the next advance.
+     *
+     * @param deadlineMs When the task is due, in epoch milliseconds.
+     * @param task       The task to run.
+     */
+    void schedule(long deadlineMs, Runnable task) {
+        place(new Entry(Math.floorDiv(deadlineMs + tickMs - 1, tickMs), task));
+        size++;
+    }
+
+    /**
+     * Advances the wheel to the given time and collects every task that fell due.
+     *
+     * @param nowMs The current time in epoch milliseconds.
+     * @return The due tasks, in deadline order at tick resolution.
+     */
+    List<Runnable> advanceTo(long nowMs) {
+        List<Runnable> expired = new ArrayList<>();
+        drainDue(expired);
+        long target = nowMs / tickMs;
+        while (currentTick < target) {
+            currentTick++;
+            // Cascade coarse slots first so their timers can still land in this tick's level 0 slot
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    ArrayDeque<Entry> bucket = levels[level][slotFor(level, currentTick)];
+                    List<Entry> cascading = new ArrayList<>(bucket);
+                    bucket.clear();
+                    cascading.forEach(this::place);
+                }
+            }
+            ArrayDeque<Entry> bucket = levels[0][slotFor(0, currentTick)];
+            Entry entry;
+            while ((entry = bucket.poll()) != null) {
+                expired.add(entry.task);
+            }
+            drainDue(expired);
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    /**
+     * Returns the number of pending timers.
+     *
+     * @return The pending timer count.
+     */
+    int size() {
+        return size;
+    }
+
+    private void place(Entry entry) {
+        long delta = entry.tick - currentTick;
+        if (delta <= 0) {
+            due.add(entry);
+            return;
+        }
+        int level = 0;
+        while (level < spans.length - 1 && delta >= spans[level + 1]) {
+            level++;
+        }
+        levels[level][slotFor(level, entry.tick)].add(entry);
+    }
+
+    private int slotFor(int level, long tick) {
+        return (int) Math.floorMod(tick / spans[level], (long) wheelSize);
+    }
+
+    private void drainDue(List<Runnable> expired) {
+        due.forEach(entry -> expired.add(entry.task));
+        due.clear();
+    }
+
+    private static class Entry {
+        private final long tick;
+        private final Runnable task;
+
+        private Entry(long tick, Runnable task) {
+            this.tick = tick;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,559 @@
+// src/main/java/com/finalcall/auctionservice/websocket/AuctionEventDispatcher.java
+
+package com.finalcall.auctionservice.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finalcall.auctionservice.dto.AuctionDTO;
+import com.finalcall.auctionservice.dto.BidDTO;
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.Bid;
+import com.finalcall.auctionservice.service.AuctionService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers committed auction updates to WebSocket subscribers off the bid path.
+ * <p>
+ * Updates are routed by auction ID to one of a fixed set of dispatcher
+ * threads, each fed by its own pre-allocated {@link EventRing}, so updates for
+ * one auction are broadcast in order by a single thread. A dispatcher drains
+ * its ring in batches and broadcasts only the latest state of each auction in
+ * the batch.
+ * <p>
+ * Broadcasts of each auction are also rate-limited: an update is sent at once
+ * if the auction has not been broadcast within the conflation window
+ * ({@code auction.ws.conflation-window-ms}); otherwise it is held and merged
+ * with any later ones until the window ends, then sent as one frame. Each
+ * auction therefore gets at most one frame per window however fast it is bid
+ * on, and a lone bid is not delayed. Protocol v2 subscriptions ({@link AuctionStream}) are owned by the
+ * same thread, so snapshots and deltas for an auction are never reordered.
+ * A stream outlives its last subscriber for a retention period, so clients
+ * that reconnect within it can resume from their last seq. The first
+ * subscriber of an auction loads it on a separate loader pool, so a slow
+ * database or AuthenticationService never holds up the lane's broadcasts;
+ * subscribers arriving meanwhile wait for the same load. For the same reason
+ * each lane hands the work that may reach them, the v1 bidding history and
+ * the bidders' names, to its own enrichment thread, which hands the mapped
+ * bids back to the lane; one thread per lane keeps each auction's updates in
+ * order.
+ * <p>
+ * Back-pressure policy: publishing never blocks, so a slow broadcast can never
+ * stall a bid. When a ring is full, the update is conflated into a per-ring
+ * overflow map keyed by auction ID, which keeps only the newest state of each
+ * auction, together with every bid accepted in between; later updates for that
+ * auction also go there until the dispatcher has drained it. Memory is
+ * therefore bounded by the ring size plus the number of distinct auctions, and
+ * subscribers may miss intermediate states under overload but always receive
+ * the final one. An overflowed update can overtake older ones still in the
+ * ring, so each lane remembers the {@code Auction.version} it last broadcast
+ * for an auction and drops any update that is not newer.
+ */
+@Component
+public class AuctionEventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuctionEventDispatcher.class);
+
+    private final AuctionWSHandler auctionWSHandler;
+    private final SessionFanout sessionFanout;
+    private final LobbyTicker lobbyTicker;
+    private final AuctionService auctionService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int replaySize;
+    private final long retentionMillis;
+    private final long windowNanos;
+    private final Lane[] lanes;
+    private final ExecutorService loader;
+    private final AtomicLong conflated = new AtomicLong();
+    private final AtomicLong epochs = new AtomicLong(System.currentTimeMillis());
+    private volatile boolean running = true;
+
+    public AuctionEventDispatcher(AuctionWSHandler auctionWSHandler,
+                                  SessionFanout sessionFanout,
+                                  LobbyTicker lobbyTicker,
+                                  AuctionService auctionService,
+                                  ObjectMapper objectMapper,
+                                  @Value("${auction.dispatch.threads:2}") int threads,
+                                  @Value("${auction.dispatch.ring-size:4096}") int ringSize,
+                                  @Value("${auction.dispatch.batch-size:256}") int batchSize,
+                                  @Value("${auction.dispatch.load-threads:2}") int loadThreads,
+                                  @Value("${auction.ws.replay-size:256}") int replaySize,
+                                  @Value("${auction.ws.resume-retention-ms:120000}") long retentionMillis,
+                                  @Value("${auction.ws.conflation-window-ms:50}") long windowMillis) {
+        this.auctionWSHandler = auctionWSHandler;
+        this.sessionFanout = sessionFanout;
+        this.lobbyTicker = lobbyTicker;
+        this.auctionService = auctionService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.replaySize = replaySize;
+        this.retentionMillis = retentionMillis;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, windowMillis));
+        AtomicLong loaderCount = new AtomicLong();
+        this.loader = Executors.newFixedThreadPool(Math.max(1, loadThreads), runnable -> {
+            Thread thread = new Thread(runnable, "auction-stream-load-" + loaderCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lanes = new Lane[Math.max(1, threads)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i, ringSize);
+            lanes[i].thread.start();
+        }
+    }
+
+    /**
+     * Queues an auction update for broadcast. Never blocks.
+     *
+     * @param auction A detached snapshot of the auction's committed state.
+     * @param bids    The bids accepted with the update.
+     */
+    public void publish(Auction auction, List<Bid> bids) {
+        lobbyTicker.onUpdate(auction);
+        AuctionUpdate update = new AuctionUpdate(auction, bids);
+        Lane lane = laneFor(auction.getId());
+        if (lane.overflow.containsKey(auction.getId()) || !lane.ring.offer(update)) {
+            lane.overflow.merge(auction.getId(), update, AuctionUpdate::merge);
+            conflated.incrementAndGet();
+        }
+        LockSupport.unpark(lane.thread);
+    }
+
+    /**
+     * Subscribes a session to protocol v2 frames for an auction. A resuming
+     * session first receives the frames it missed, if they are still
+     * retained; any other session first receives a snapshot. Deltas follow.
+     *
+     * @param auctionId The ID of the auction.
+     * @param session   The WebSocket session.
+     * @param epoch     The epoch the client last received frames for, or null.
+     * @param lastSeq   The last seq the client received, or null.
+     * @param format    How update frames are delivered to the session.
+     * @param exclusive Whether the session serves only this auction and is
+     *                  closed if it does not exist.
+     */
+    public void subscribe(Long auctionId, WebSocketSession session, Long epoch, Long lastSeq,
+                          FrameFormat format, boolean exclusive) {
+        Lane lane = laneFor(auctionId);
+        Subscriber subscriber = new Subscriber(session, epoch, lastSeq, format, exclusive);
+        lane.execute(() -> lane.subscribe(auctionId, subscriber));
+    }
+
+    /**
+     * Removes a protocol v2 subscription.
+     *
+     * @param auctionId The ID of the auction.
+     * @param session   The WebSocket session.
+     */
+    public void unsubscribe(Long auctionId, WebSocketSession session) {
+        Lane lane = laneFor(auctionId);
+        lane.execute(() -> lane.unsubscribe(auctionId, session));
+    }
+
+    /**
+     * Returns how many updates were conflated because a ring was full.
+     *
+     * @return The overflow count since startup.
+     */
+    public long getConflatedCount() {
+        return conflated.get();
+    }
+
+    private Lane laneFor(Long auctionId) {
+        return lanes[Math.floorMod(Long.hashCode(auctionId), lanes.length)];
+    }
+
+    private TextMessage encode(Map<String, Object> frame) throws JsonProcessingException {
+        return new TextMessage(objectMapper.writeValueAsString(frame));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Lane lane : lanes) {
+            LockSupport.unpark(lane.thread);
+            lane.thread.join();
+            lane.enricher.shutdown();
+        }
+        loader.shutdownNow();
+    }
+
+    /**
+     * A session asking for a stream, as passed to {@link #subscribe}.
+     */
+    private static class Subscriber {
+        private final WebSocketSession session;
+        private final Long epoch;
+        private final Long lastSeq;
+        private final FrameFormat format;
+        private final boolean exclusive;
+
+        private Subscriber(WebSocketSession session, Long epoch, Long lastSeq, FrameFormat format, boolean exclusive) {
+            this.session = session;
+            this.epoch = epoch;
+            this.lastSeq = lastSeq;
+            this.format = format;
+            this.exclusive = exclusive;
+        }
+    }
+
+    /**
+     * A stream being loaded off the lane, with the subscribers waiting for it
+     * and the updates broadcast meanwhile, merged.
+     */
+    private static class PendingStream {
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private MappedUpdate missed;
+    }
+
+    /**
+     * An update as the v2 streams take it: the auction state and the new
+     * bids, mapped to DTOs.
+     */
+    private static class MappedUpdate {
+        private final AuctionDTO auction;
+        private final List<BidDTO> bids;
+
+        private MappedUpdate(AuctionDTO auction, List<BidDTO> bids) {
+            this.auction = auction;
+            this.bids = bids;
+        }
+
+        private MappedUpdate merge(MappedUpdate later) {
+            List<BidDTO> combined = new ArrayList<>(bids.size() + later.bids.size());
+            combined.addAll(bids);
+            combined.addAll(later.bids);
+            return new MappedUpdate(later.auction, combined);
+        }
+    }
+
+    /**
+     * The version of the last state broadcast for an auction, and when.
+     */
+    private static class LastBroadcast {
+        private final long version;
+        private final long at;
+
+        private LastBroadcast(long version, long at) {
+            this.version = version;
+            this.at = at;
+        }
+    }
+
+    /**
+     * One dispatcher thread with its ring, overflow map and v2 streams.
+     */
+    private class Lane implements Runnable {
+        private final EventRing<AuctionUpdate> ring;
+        private final Map<Long, AuctionUpdate> overflow = new ConcurrentHashMap<>();
+        private final ConcurrentLinkedQueue<Runnable> commands = new ConcurrentLinkedQueue<>();
+        private final Map<Long, AuctionStream> streams = new HashMap<>();
+        private final Map<Long, PendingStream> loading = new HashMap<>();
+
+        // Conflation: end of each auction's current window, and updates held until then
+        private final Map<Long, Long> windowEnds = new HashMap<>();
+        private final Map<Long, AuctionUpdate> held = new HashMap<>();
+
+        // Version of the state last broadcast for each auction, so a stale update is never sent after a newer one
+        private final Map<Long, LastBroadcast> lastBroadcasts = new HashMap<>();
+
+        private final Thread thread;
+        private final ExecutorService enricher;
+        private long lastEviction;
+
+        private Lane(int index, int ringSize) {
+            this.ring = new EventRing<>(ringSize);
+            this.thread = new Thread(this, "auction-dispatch-" + index);
+            this.thread.setDaemon(true);
+            this.enricher = Executors.newSingleThreadExecutor(runnable -> {
+                Thread enrichThread = new Thread(runnable, "auction-enrich-" + index);
+                enrichThread.setDaemon(true);
+                return enrichThread;
+            });
+        }
+
+        private void execute(Runnable command) {
+            commands.offer(command);
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void run() {
+            List<AuctionUpdate> batch = new ArrayList<>(batchSize);
+            Map<Long, AuctionUpdate> latest = new LinkedHashMap<>();
+            while (running || ring.size() > 0 || !overflow.isEmpty()) {
+                Runnable command;
+                while ((command = commands.poll()) != null) {
+                    runSafely(command);
+                }
+                evictIdleStreams();
+
+                ring.drainTo(batch, batchSize);
+                // Overflowed updates may overtake older ones for the same auction still in the ring;
+                // merging and broadcast both go by Auction.version, so the stale ones are dropped
+                for (Long auctionId : overflow.keySet()) {
+                    AuctionUpdate update = overflow.remove(auctionId);
+                    if (update != null) {
+                        batch.add(update);
+                    }
+                }
+                boolean idle = batch.isEmpty();
+                long now = System.nanoTime();
+                for (AuctionUpdate update : batch) {
+                    AuctionUpdate earlier = latest.remove(update.getAuctionId());
+                    latest.put(update.getAuctionId(), earlier != null ? earlier.merge(update) : update);
+                }
+                for (AuctionUpdate update : latest.values()) {
+                    accept(update, now);
+                }
+                latest.clear();
+                batch.clear();
+
+                long wait = flushHeld(now);
+                if (idle && commands.isEmpty()) {
+                    LockSupport.parkNanos(this, wait);
+                }
+            }
+            held.values().forEach(update -> runSafely(() -> broadcast(update)));
+        }
+
+        /**
+         * Broadcasts an update now, or holds it if its auction's window is still open.
+         */
+        private void accept(AuctionUpdate update, long now) {
+            Long auctionId = update.getAuctionId();
+            AuctionUpdate pending = held.get(auctionId);
+            if (pending != null) {
+                held.put(auctionId, pending.merge(update));
+                return;
+            }
+            Long windowEnd = windowEnds.get(auctionId);
+            if (windowEnd != null && windowEnd - now > 0) {
+                held.put(auctionId, update);
+                return;
+            }
+            runSafely(() -> broadcast(update));
+            if (windowNanos > 0) {
+                windowEnds.put(auctionId, now + windowNanos);
+            }
+        }
+
+        /**
+         * Broadcasts held updates whose window has ended and forgets windows
+         * that ended with nothing held.
+         *
+         * @return Nanoseconds until the next held update is due, at most one second.
+         */
+        private long flushHeld(long now) {
+            long wait = TimeUnit.SECONDS.toNanos(1);
+            for (Iterator<Map.Entry<Long, Long>> it = windowEnds.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<Long, Long> window = it.next();
+                long remaining = window.getValue() - now;
+                if (remaining > 0) {
+                    if (held.containsKey(window.getKey())) {
+                        wait = Math.min(wait, remaining);
+                    }
+                    continue;
+                }
+                AuctionUpdate update = held.remove(window.getKey());
+                if (update == null) {
+                    it.remove();
+                    continue;
+                }
+                runSafely(() -> broadcast(update));
+                window.setValue(now + windowNanos);
+            }
+            return wait;
+        }
+
+        private void runSafely(Runnable task) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.warn("Auction dispatch task failed on {}", Thread.currentThread().getName(), e);
+            }
+        }
+
+        private void broadcast(AuctionUpdate update) {
+            Long auctionId = update.getAuctionId();
+            Long version = update.getVersion();
+            if (version != null) {
+                LastBroadcast last = lastBroadcasts.get(auctionId);
+                if (last != null && version <= last.version) {
+                    // Its bids are already covered by the newer state
+                    return;
+                }
+                lastBroadcasts.put(auctionId, new LastBroadcast(version, System.currentTimeMillis()));
+            }
+            AuctionDTO auctionDTO = auctionService.mapToDTO(update.getAuction());
+            boolean streamed = streams.containsKey(auctionId) || loading.containsKey(auctionId);
+            enricher.execute(() -> {
+                // Protocol v1: full state and history
+                runSafely(() -> auctionWSHandler.broadcastAuctionUpdate(auctionId, auctionDTO));
+                if (streamed) {
+                    runSafely(() -> {
+                        MappedUpdate mapped = new MappedUpdate(auctionDTO, auctionService.mapBidsToDTOs(update.getBids()));
+                        execute(() -> deliver(auctionId, mapped));
+                    });
+                }
+            });
+        }
+
+        /**
+         * Sends a mapped update to the auction's v2 subscribers, or keeps it
+         * for a stream still loading.
+         */
+        private void deliver(Long auctionId, MappedUpdate update) {
+            // Protocol v2: one update frame, encoded once per format and shared by all subscribers
+            AuctionStream stream = streams.get(auctionId);
+            if (stream == null) {
+                PendingStream pending = loading.get(auctionId);
+                if (pending != null) {
+                    pending.missed = pending.missed != null ? pending.missed.merge(update) : update;
+                }
+                return;
+            }
+            AuctionStream.Update frames = stream.update(update.auction, update.bids);
+            if (frames == null) {
+                return;
+            }
+            for (FrameFormat format : stream.getFormatsInUse()) {
+                Map<String, Object> frame = format.isWithBids() ? frames.getFrameWithBids() : frames.getFrame();
+                try {
+                    WebSocketMessage<?> message = format.isBinary() ? BinaryFrameCodec.encodeUpdate(frame)
+                            : new SequencedMessage(encode(frame), stream.getEpoch(), frames.getSeq());
+                    stream.record(frames.getSeq(), format, message);
+                    sessionFanout.sendDelta(stream.getSessions(format), message);
+                } catch (JsonProcessingException | RuntimeException e) {
+                    stream.record(frames.getSeq(), format, null);
+                    logger.error("Failed to encode {} frame for auction {}", format, auctionId, e);
+                }
+            }
+        }
+
+        private void subscribe(Long auctionId, Subscriber subscriber) {
+            AuctionStream stream = streams.get(auctionId);
+            if (stream != null) {
+                attach(auctionId, stream, subscriber);
+                return;
+            }
+            PendingStream pending = loading.get(auctionId);
+            if (pending == null) {
+                pending = new PendingStream();
+                loading.put(auctionId, pending);
+                load(auctionId);
+            }
+            pending.subscribers.add(subscriber);
+        }
+
+        /**
+         * Loads an auction and its history on the loader pool and hands the
+         * new stream back to this lane.
+         */
+        private void load(Long auctionId) {
+            CompletableFuture.supplyAsync(() -> auctionService.findAuctionDTO(auctionId)
+                            .map(auction -> new AuctionStream(auctionId, epochs.incrementAndGet(), replaySize,
+                                    auction, auctionService.getBidsForAuction(auctionId))), loader)
+                    .whenComplete((stream, error) -> execute(() -> loaded(auctionId, stream, error)));
+        }
+
+        private void loaded(Long auctionId, Optional<AuctionStream> result, Throwable error) {
+            PendingStream pending = loading.remove(auctionId);
+            if (pending == null) {
+                return;
+            }
+            if (error != null || result.isEmpty()) {
+                if (error != null) {
+                    logger.error("Failed to load auction {} for streaming", auctionId, error);
+                }
+                String reason = error != null ? "Auction could not be loaded." : "Auction not found.";
+                for (Subscriber subscriber : pending.subscribers) {
+                    sessionFanout.send(subscriber.session, new TextMessage(
+                            "{\"type\":\"error\",\"auctionId\":" + auctionId + ",\"error\":\"" + reason + "\"}"));
+                    if (subscriber.exclusive) {
+                        sessionFanout.close(subscriber.session, CloseStatus.SERVER_ERROR);
+                    }
+                }
+                return;
+            }
+            AuctionStream stream = result.get();
+            if (pending.missed != null) {
+                // Catch up with what was broadcast during the load; nobody is subscribed yet, so nothing is sent
+                stream.update(pending.missed.auction, pending.missed.bids);
+            }
+            streams.put(auctionId, stream);
+            pending.subscribers.forEach(subscriber -> attach(auctionId, stream, subscriber));
+            stream.updateIdle(System.currentTimeMillis());
+        }
+
+        private void attach(Long auctionId, AuctionStream stream, Subscriber subscriber) {
+            WebSocketSession session = subscriber.session;
+            FrameFormat format = subscriber.format;
+            List<WebSocketMessage<?>> missed = subscriber.epoch != null && subscriber.lastSeq != null
+                    ? stream.replaySince(subscriber.epoch, subscriber.lastSeq, format) : null;
+            try {
+                if (missed != null) {
+                    missed.forEach(message -> sessionFanout.send(session, message));
+                } else {
+                    if (stream.getSnapshotMessage() == null) {
+                        stream.setSnapshotMessage(new SequencedMessage(encode(stream.snapshot()),
+                                stream.getEpoch(), stream.getSequence()));
+                    }
+                    sessionFanout.send(session, stream.getSnapshotMessage());
+                }
+                stream.addSession(session, format);
+                stream.updateIdle(System.currentTimeMillis());
+            } catch (JsonProcessingException e) {
+                logger.error("Failed to encode snapshot for auction {}", auctionId, e);
+                if (subscriber.exclusive) {
+                    sessionFanout.close(session, CloseStatus.SERVER_ERROR);
+                }
+            }
+        }
+
+        private void unsubscribe(Long auctionId, WebSocketSession session) {
+            PendingStream pending = loading.get(auctionId);
+            if (pending != null) {
+                pending.subscribers.removeIf(subscriber -> subscriber.session == session);
+            }
+            AuctionStream stream = streams.get(auctionId);
+            if (stream != null) {
+                stream.removeSession(session);
+                stream.updateIdle(System.currentTimeMillis());
+            }
+        }
+
+        /**
+         * Discards streams that have had no subscribers for longer than the
+         * resume retention, and broadcast versions as old. Runs at most once a
+         * second.
+         */
+        private void evictIdleStreams() {
+            long now = System.currentTimeMillis();
+            if (now - lastEviction < 1000) {
+                return;
+            }
+            lastEviction = now;
+            streams.values().removeIf(stream -> stream.isExpired(now, retentionMillis));
+            lastBroadcasts.values().removeIf(last -> now - last.at > retentionMillis);
+        }
+    }
+}
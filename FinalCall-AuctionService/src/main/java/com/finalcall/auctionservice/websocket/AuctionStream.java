@@ -0,0 +1,292 @@
+// src/main/java/com/finalcall/auctionservice/websocket/AuctionStream.java
+
+package com.finalcall.auctionservice.websocket;
+
+import com.finalcall.auctionservice.dto.AuctionDTO;
+import com.finalcall.auctionservice.dto.BidDTO;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.*;
+
+/**
+ * Protocol v2 state of one auction: its subscribers, the sequence number of
+ * the last frame sent, the last state sent, which later updates are diffed
+ * against, and a bounded ring of the most recent update frames. Owned by the
+ * dispatcher thread the auction is routed to.
+ * <p>
+ * Frames are JSON objects with a {@code type}, the {@code auctionId} and a
+ * {@code seq} that increases by one per frame. A client that sees a gap in
+ * {@code seq} has missed frames and should resubscribe. The {@code epoch} in
+ * the snapshot identifies this stream; sequence numbers of different epochs
+ * are unrelated.
+ * <p>
+ * An update frame carries only the fields that changed since the previous
+ * frame, plus the number of new bids and the latest of them; all changes
+ * within one conflation window share a frame. Subscribers that asked for full
+ * history receive the same frame with every new bid in {@code bids}. Each
+ * {@link FrameFormat} in use on the stream is encoded once per update.
+ * <p>
+ * A reconnecting client that sends its epoch and last seen seq is sent only
+ * the frames it missed, as long as they are all still in the ring. The stream
+ * keeps the full state and history it has sent, so snapshots for new or
+ * too-far-behind subscribers are built without touching the database.
+ */
+class AuctionStream {
+
+    static final String SNAPSHOT = "snapshot";
+    static final String UPDATE = "update";
+
+    private final Long auctionId;
+    private final long epoch;
+    private final Map<FrameFormat, Set<WebSocketSession>> sessions = new EnumMap<>(FrameFormat.class);
+    private long sequence;
+
+    // Formats ever subscribed to; kept so clients can still resume in them after disconnecting
+    private final Set<FrameFormat> formatsInUse = EnumSet.noneOf(FrameFormat.class);
+
+    // Recent update frames per format; the frame with seq s is at index s % capacity
+    private final int replayCapacity;
+    private final Map<FrameFormat, WebSocketMessage<?>[]> recent = new EnumMap<>(FrameFormat.class);
+
+    // Last state sent to subscribers, history newest first
+    private AuctionDTO auction;
+    private final Deque<BidDTO> history = new ArrayDeque<>();
+    // Highest auction version among the bids sent; bids from older writes are already covered
+    private long lastBidVersion;
+
+    // Encoded snapshot at the current sequence, shared by subscribers until the next delta
+    private WebSocketMessage<?> snapshotMessage;
+
+    // When the last subscriber left, or 0 while there are subscribers
+    private long idleSince;
+
+    /**
+     * Creates a stream starting at the given state.
+     *
+     * @param auctionId      The ID of the auction.
+     * @param epoch          The epoch identifying this stream.
+     * @param replayCapacity How many recent delta frames to keep for resuming clients.
+     * @param auction        The current auction state.
+     * @param history        The bidding history, newest first.
+     */
+    AuctionStream(Long auctionId, long epoch, int replayCapacity, AuctionDTO auction, List<BidDTO> history) {
+        this.auctionId = auctionId;
+        this.epoch = epoch;
+        this.replayCapacity = Math.max(1, replayCapacity);
+        this.auction = auction;
+        this.history.addAll(history);
+        for (BidDTO bid : history) {
+            lastBidVersion = Math.max(lastBidVersion, versionOf(bid));
+        }
+    }
+
+    /**
+     * Retrieves the subscribers that receive update frames in the given format.
+     */
+    Set<WebSocketSession> getSessions(FrameFormat format) {
+        return sessions.getOrDefault(format, Set.of());
+    }
+
+    /**
+     * Retrieves the formats update frames must be encoded in.
+     */
+    Set<FrameFormat> getFormatsInUse() {
+        return formatsInUse;
+    }
+
+    void addSession(WebSocketSession session, FrameFormat format) {
+        removeSession(session);
+        sessions.computeIfAbsent(format, f -> new LinkedHashSet<>()).add(session);
+        formatsInUse.add(format);
+    }
+
+    void removeSession(WebSocketSession session) {
+        sessions.values().forEach(subscribers -> subscribers.remove(session));
+    }
+
+    long getEpoch() {
+        return epoch;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    WebSocketMessage<?> getSnapshotMessage() {
+        return snapshotMessage;
+    }
+
+    void setSnapshotMessage(WebSocketMessage<?> snapshotMessage) {
+        this.snapshotMessage = snapshotMessage;
+    }
+
+    /**
+     * Builds the snapshot frame for a new subscriber from the last state sent.
+     * The snapshot carries the current sequence number; the first delta after
+     * it has {@code seq + 1}.
+     *
+     * @return The snapshot frame.
+     */
+    Map<String, Object> snapshot() {
+        Map<String, Object> frame = frame(SNAPSHOT, sequence);
+        frame.put("epoch", epoch);
+        frame.put("auction", auction);
+        frame.put("biddingHistory", new ArrayList<>(history));
+        return frame;
+    }
+
+    /**
+     * Builds the update frame that takes subscribers from the last state sent
+     * to the given one.
+     *
+     * @param auction The new auction state.
+     * @param newBids The bids accepted since the last update, oldest first.
+     * @return The frame without and with the new bids, or null if nothing visible changed.
+     */
+    Update update(AuctionDTO auction, List<BidDTO> newBids) {
+        List<BidDTO> bids = new ArrayList<>(newBids.size());
+        // One write may accept several bids, all with the same version
+        long covered = lastBidVersion;
+        for (BidDTO bid : newBids) {
+            // Bids already covered by the snapshot are skipped
+            long version = versionOf(bid);
+            if (version <= covered) {
+                continue;
+            }
+            lastBidVersion = Math.max(lastBidVersion, version);
+            history.addFirst(bid);
+            bids.add(bid);
+        }
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (!Objects.equals(this.auction.getCurrentBidPrice(), auction.getCurrentBidPrice())
+                || !Objects.equals(this.auction.getCurrentBidderId(), auction.getCurrentBidderId())) {
+            changes.put("currentBidPrice", auction.getCurrentBidPrice());
+            changes.put("currentBidderId", auction.getCurrentBidderId());
+        }
+        if (!Objects.equals(this.auction.getAuctionEndTime(), auction.getAuctionEndTime())) {
+            changes.put("auctionEndTime", auction.getAuctionEndTime());
+        }
+        if (!Objects.equals(this.auction.getStatus(), auction.getStatus())) {
+            changes.put("status", auction.getStatus());
+        }
+        this.auction = auction;
+        if (changes.isEmpty() && bids.isEmpty()) {
+            return null;
+        }
+        snapshotMessage = null;
+
+        Map<String, Object> frame = frame(UPDATE, ++sequence);
+        frame.putAll(changes);
+        if (!bids.isEmpty()) {
+            frame.put("bidCount", bids.size());
+            frame.put("lastBid", bids.get(bids.size() - 1));
+        }
+        Map<String, Object> withBids = new LinkedHashMap<>(frame);
+        withBids.put("bids", bids);
+        return new Update(sequence, frame, withBids);
+    }
+
+    /**
+     * Keeps an encoded update frame for replay to resuming clients.
+     *
+     * @param seq     The frame's sequence number.
+     * @param format  The format it is encoded in.
+     * @param message The encoded frame, or null if it could not be encoded.
+     */
+    void record(long seq, FrameFormat format, WebSocketMessage<?> message) {
+        recent.computeIfAbsent(format, f -> new WebSocketMessage<?>[replayCapacity])[(int) (seq % replayCapacity)] = message;
+    }
+
+    /**
+     * Returns the frames a client missed since the given position, if they
+     * are all still retained.
+     *
+     * @param clientEpoch The epoch of the snapshot the client started from.
+     * @param lastSeq     The last seq the client received.
+     * @param format      The format the client receives frames in.
+     * @return The missed frames in order, possibly empty; or null if the client
+     *         must start over from a snapshot.
+     */
+    List<WebSocketMessage<?>> replaySince(long clientEpoch, long lastSeq, FrameFormat format) {
+        // Frames 1..sequence were produced; only the last replayCapacity of them are retained
+        if (clientEpoch != epoch || lastSeq > sequence || lastSeq < sequence - replayCapacity || lastSeq < 0) {
+            return null;
+        }
+        WebSocketMessage<?>[] frames = recent.get(format);
+        if (frames == null) {
+            return lastSeq == sequence ? List.of() : null;
+        }
+        List<WebSocketMessage<?>> missed = new ArrayList<>((int) (sequence - lastSeq));
+        for (long seq = lastSeq + 1; seq <= sequence; seq++) {
+            WebSocketMessage<?> message = frames[(int) (seq % replayCapacity)];
+            if (message == null) {
+                return null;
+            }
+            missed.add(message);
+        }
+        return missed;
+    }
+
+    /**
+     * Records that the stream has no subscribers left, or no longer idles.
+     *
+     * @param now The current time in milliseconds.
+     */
+    void updateIdle(long now) {
+        boolean idle = sessions.values().stream().allMatch(Set::isEmpty);
+        idleSince = idle ? (idleSince == 0 ? now : idleSince) : 0;
+    }
+
+    /**
+     * Indicates whether the stream has had no subscribers for at least the given time.
+     *
+     * @param now       The current time in milliseconds.
+     * @param retention How long an idle stream is kept for resuming clients, in milliseconds.
+     * @return true if the stream can be discarded.
+     */
+    boolean isExpired(long now, long retention) {
+        return idleSince != 0 && now - idleSince >= retention;
+    }
+
+    private Map<String, Object> frame(String type, long seq) {
+        Map<String, Object> frame = new LinkedHashMap<>();
+        frame.put("type", type);
+        frame.put("auctionId", auctionId);
+        frame.put("seq", seq);
+        return frame;
+    }
+
+    private static long versionOf(BidDTO bid) {
+        // Bids stored before versions were recorded predate every live update
+        return bid.getAuctionVersion() != null ? bid.getAuctionVersion() : 0L;
+    }
+
+    /**
+     * One update frame in its two variants.
+     */
+    static class Update {
+        private final long seq;
+        private final Map<String, Object> frame;
+        private final Map<String, Object> frameWithBids;
+
+        private Update(long seq, Map<String, Object> frame, Map<String, Object> frameWithBids) {
+            this.seq = seq;
+            this.frame = frame;
+            this.frameWithBids = frameWithBids;
+        }
+
+        long getSeq() {
+            return seq;
+        }
+
+        Map<String, Object> getFrame() {
+            return frame;
+        }
+
+        Map<String, Object> getFrameWithBids() {
+            return frameWithBids;
+        }
+    }
+}
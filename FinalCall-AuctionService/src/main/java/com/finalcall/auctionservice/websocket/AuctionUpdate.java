@@ -0,0 +1,75 @@
+// src/main/java/com/finalcall/auctionservice/websocket/AuctionUpdate.java
+
+package com.finalcall.auctionservice.websocket;
+
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.Bid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A committed auction change queued for broadcast: the auction's new state
+ * plus the bids accepted with it.
+ */
+class AuctionUpdate {
+
+    private final Auction auction;
+    private final List<Bid> bids;
+
+    AuctionUpdate(Auction auction, List<Bid> bids) {
+        this.auction = auction;
+        this.bids = bids;
+    }
+
+    Long getAuctionId() {
+        return auction.getId();
+    }
+
+    Auction getAuction() {
+        return auction;
+    }
+
+    List<Bid> getBids() {
+        return bids;
+    }
+
+    /**
+     * Returns the version of the auction state carried by this update.
+     *
+     * @return The auction's version, or null if it was never stored.
+     */
+    Long getVersion() {
+        return auction.getVersion();
+    }
+
+    /**
+     * Combines this update with another for the same auction, usually a later
+     * one: the newer state wins and no accepted bid is lost. Updates can reach
+     * the dispatcher out of order when a ring overflows, so "newer" is decided
+     * by {@code Auction.version} where both states have one.
+     *
+     * @param other The other update.
+     * @return The combined update.
+     */
+    AuctionUpdate merge(AuctionUpdate other) {
+        Auction newer = other.isOlderThan(this) ? auction : other.auction;
+        if (other.bids.isEmpty()) {
+            return newer == auction ? this : new AuctionUpdate(newer, bids);
+        }
+        if (bids.isEmpty()) {
+            return newer == other.auction ? other : new AuctionUpdate(newer, other.bids);
+        }
+        List<Bid> combined = new ArrayList<>(bids.size() + other.bids.size());
+        combined.addAll(bids);
+        combined.addAll(other.bids);
+        return new AuctionUpdate(newer, combined);
+    }
+
+    /**
+     * Returns whether this update's state is known to precede another's.
+     */
+    boolean isOlderThan(AuctionUpdate other) {
+        return getVersion() != null && other.getVersion() != null && getVersion() < other.getVersion();
+    }
+}
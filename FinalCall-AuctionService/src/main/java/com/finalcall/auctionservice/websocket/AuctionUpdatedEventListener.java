@@ -2,33 +2,29 @@
 
 package com.finalcall.auctionservice.websocket;
 
-import com.finalcall.auctionservice.dto.AuctionDTO;
-import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.cluster.BroadcastBus;
 import com.finalcall.auctionservice.event.AuctionUpdatedEvent;
-import com.finalcall.auctionservice.service.AuctionService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class AuctionUpdatedEventListener {
 
     @Autowired
-    private AuctionWSHandler auctionWSHandler;
-
-    @Autowired
-    private AuctionService auctionService;
+    private BroadcastBus broadcastBus;
 
     /**
-     * Listens for AuctionUpdatedEvent and broadcasts updates via WebSocket.
+     * Listens for AuctionUpdatedEvent once the change has committed and
+     * publishes it on the broadcast bus, which hands it to the dispatcher of
+     * every instance for WebSocket delivery.
+     * Events published outside a transaction are dispatched immediately.
      *
      * @param event The AuctionUpdatedEvent.
      */
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleAuctionUpdatedEvent(AuctionUpdatedEvent event) {
-        Auction auction = event.getAuction();
-        AuctionDTO auctionDTO = auctionService.mapToDTO(auction);
-        Long auctionId = auction.getId();
-        auctionWSHandler.broadcastAuctionUpdate(auctionId, auctionDTO);
+        broadcastBus.publish(event.getAuction(), event.getBids());
     }
 }
@@ -6,16 +6,31 @@ import com.finalcall.auctionservice.dto.AuctionDTO;
 import com.finalcall.auctionservice.service.AuctionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Serves auction updates at {@code /ws/auctions/{auctionId}}.
+ * <p>
+ * By default (protocol v1) the path segment is the item ID and every update
+ * carries the full auction state and bidding history. Clients that connect
+ * with {@code ?v=2} subscribe by auction ID to the delta protocol instead: one
+ * snapshot frame followed by sequenced delta frames, see {@link AuctionStream}.
+ * A v2 client that reconnects with {@code &epoch=...&lastSeq=...} resumes
+ * where it left off when possible and receives a fresh snapshot otherwise.
+ * Update frames list every new bid only for clients that add {@code &history=full}.
+ * v2 clients that negotiate the {@value BinaryFrameCodec#SUBPROTOCOL}
+ * subprotocol receive update frames in binary.
+ */
 @Component
-public class AuctionWSHandler extends TextWebSocketHandler {
+public class AuctionWSHandler extends TextWebSocketHandler implements SubProtocolCapable {
 
     @Autowired
     private AuctionService auctionService;
@@ -23,6 +38,14 @@ public class AuctionWSHandler extends TextWebSocketHandler {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SessionFanout sessionFanout;
+
+    // Lazy: the dispatcher itself depends on this handler for v1 broadcasts
+    @Autowired
+    @Lazy
+    private AuctionEventDispatcher auctionEventDispatcher;
+
     // Mapping from auctionId to a set of WebSocket sessions
     private static Map<Long, Set<WebSocketSession>> auctionSessions = new ConcurrentHashMap<>();
 
@@ -33,6 +56,14 @@ public class AuctionWSHandler extends TextWebSocketHandler {
             session.close(CloseStatus.BAD_DATA);
             return;
         }
+        sessionFanout.register(session);
+        if (isDeltaProtocol(session)) {
+            auctionEventDispatcher.subscribe(auctionId, session,
+                    longQueryParam(session, "epoch"), longQueryParam(session, "lastSeq"),
+                    FrameFormat.of("full".equals(queryParam(session, "history")), BinaryFrameCodec.isBinary(session)),
+                    true);
+            return;
+        }
         auctionSessions.computeIfAbsent(auctionId, k -> ConcurrentHashMap.newKeySet()).add(session);
         // Optionally, send current auction state
         sendAuctionUpdate(session, auctionId);
@@ -40,8 +71,11 @@ public class AuctionWSHandler extends TextWebSocketHandler {
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
+        sessionFanout.remove(session);
         Long auctionId = extractAuctionId(session);
-        if (auctionId != null && auctionId != 0L) {
+        if (auctionId != null && auctionId != 0L && isDeltaProtocol(session)) {
+            auctionEventDispatcher.unsubscribe(auctionId, session);
+        } else if (auctionId != null && auctionId != 0L) {
             Set<WebSocketSession> sessions = auctionSessions.get(auctionId);
             if (sessions != null) {
                 sessions.remove(session);
@@ -52,6 +86,11 @@ public class AuctionWSHandler extends TextWebSocketHandler {
         }
     }
 
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(BinaryFrameCodec.SUBPROTOCOL);
+    }
+
     /**
      * Sends the current auction state to the specified session.
      *
@@ -70,14 +109,16 @@ public class AuctionWSHandler extends TextWebSocketHandler {
             response.put("biddingHistory", auctionService.getBidsForAuction(auctionId));
 
             String message = objectMapper.writeValueAsString(response);
-            session.sendMessage(new TextMessage(message));
+            sessionFanout.send(session, new TextMessage(message));
         } else {
-            session.sendMessage(new TextMessage("{\"error\":\"Auction not found.\"}"));
+            sessionFanout.send(session, new TextMessage("{\"error\":\"Auction not found.\"}"));
         }
     }
 
     /**
      * Broadcasts auction updates to all connected clients for a specific auction.
+     * The update is serialized once; the writes are queued on the I/O workers.
+     * Reads the bidding history, so the dispatcher calls it off its lanes.
      *
      * @param auctionId  The ID of the auction.
      * @param auctionDTO The updated auction data.
@@ -91,18 +132,49 @@ public class AuctionWSHandler extends TextWebSocketHandler {
 
             try {
                 String message = objectMapper.writeValueAsString(response);
-                TextMessage textMessage = new TextMessage(message);
-                for (WebSocketSession session : sessions) {
-                    if (session.isOpen()) {
-                        session.sendMessage(textMessage);
-                    }
-                }
+                sessionFanout.sendState(sessions, auctionId, new TextMessage(message));
             } catch (IOException e) {
                 e.printStackTrace();
             }
         }
     }
 
+    /**
+     * Indicates whether the session asked for the delta protocol with {@code ?v=2}.
+     *
+     * @param session The WebSocket session.
+     * @return true for protocol v2 sessions.
+     */
+    private boolean isDeltaProtocol(WebSocketSession session) {
+        return "2".equals(queryParam(session, "v"));
+    }
+
+    /**
+     * Reads a numeric query parameter from the session's URL.
+     *
+     * @param session The WebSocket session.
+     * @param name    The parameter name.
+     * @return The value, or null if it is missing or not a number.
+     */
+    private Long longQueryParam(WebSocketSession session, String name) {
+        String value = queryParam(session, name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String queryParam(WebSocketSession session, String name) {
+        if (session.getUri() == null) {
+            return null;
+        }
+        return UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst(name);
+    }
+
     /**
      * Extracts the auction ID from the WebSocket session's URL.
      *
@@ -0,0 +1,130 @@
+// src/main/java/com/finalcall/auctionservice/websocket/BinaryFrameCodec.java
+
+package com.finalcall.auctionservice.websocket;
+
+import com.finalcall.auctionservice.dto.BidDTO;
+import com.finalcall.auctionservice.entity.AuctionStatus;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary encoding of protocol v2 update frames, used by connections that
+ * negotiate the {@value #SUBPROTOCOL} subprotocol. Snapshots and errors
+ * remain JSON text frames.
+ * <p>
+ * All fields are big-endian and fixed-width. Prices are in cents, times are
+ * epoch milliseconds in the server's time zone, and absent IDs are -1:
+ * <pre>
+ * byte  type                 1 = update
+ * byte  flags                1 = price, 2 = end time, 4 = status
+ * long  auctionId
+ * long  seq
+ * [1]   long currentBidPriceCents, long currentBidderId
+ * [2]   long auctionEndTime
+ * [4]   byte status          0 = SCHEDULED, 1 = ACTIVE, 2 = ENDED
+ * int   bidCount             new bids since the previous frame
+ * short listed               bids that follow: the latest, or all with history=full
+ * listed x { long amountCents, long bidderId, long timestamp }
+ * </pre>
+ */
+final class BinaryFrameCodec {
+
+    static final String SUBPROTOCOL = "finalcall.v2.binary";
+
+    static final byte UPDATE = 1;
+    static final byte PRICE_CHANGED = 1;
+    static final byte END_TIME_CHANGED = 2;
+    static final byte STATUS_CHANGED = 4;
+
+    private static final int HEADER_SIZE = 1 + 1 + 8 + 8;
+    private static final int BID_SIZE = 8 + 8 + 8;
+
+    private BinaryFrameCodec() {
+    }
+
+    /**
+     * Indicates whether a session negotiated binary frames.
+     *
+     * @param session The WebSocket session.
+     * @return true if update frames should be binary.
+     */
+    static boolean isBinary(WebSocketSession session) {
+        return SUBPROTOCOL.equals(session.getAcceptedProtocol());
+    }
+
+    /**
+     * Encodes an update frame built by {@link AuctionStream}.
+     *
+     * @param frame The JSON form of the frame.
+     * @return The binary frame; shared by all recipients, so never consume its buffer directly.
+     */
+    @SuppressWarnings("unchecked")
+    static BinaryMessage encodeUpdate(Map<String, Object> frame) {
+        boolean priceChanged = frame.containsKey("currentBidPrice");
+        boolean endTimeChanged = frame.containsKey("auctionEndTime");
+        boolean statusChanged = frame.containsKey("status");
+        List<BidDTO> listed;
+        if (frame.containsKey("bids")) {
+            listed = (List<BidDTO>) frame.get("bids");
+        } else if (frame.containsKey("lastBid")) {
+            listed = List.of((BidDTO) frame.get("lastBid"));
+        } else {
+            listed = List.of();
+        }
+        if (listed.size() > Short.MAX_VALUE) {
+            listed = listed.subList(listed.size() - Short.MAX_VALUE, listed.size());
+        }
+
+        int size = HEADER_SIZE
+                + (priceChanged ? 16 : 0)
+                + (endTimeChanged ? 8 : 0)
+                + (statusChanged ? 1 : 0)
+                + 4 + 2 + listed.size() * BID_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(UPDATE);
+        buffer.put((byte) ((priceChanged ? PRICE_CHANGED : 0)
+                | (endTimeChanged ? END_TIME_CHANGED : 0)
+                | (statusChanged ? STATUS_CHANGED : 0)));
+        buffer.putLong((Long) frame.get("auctionId"));
+        buffer.putLong((Long) frame.get("seq"));
+        if (priceChanged) {
+            buffer.putLong(cents((Double) frame.get("currentBidPrice")));
+            buffer.putLong(id((Long) frame.get("currentBidderId")));
+        }
+        if (endTimeChanged) {
+            buffer.putLong(epochMillis((LocalDateTime) frame.get("auctionEndTime")));
+        }
+        if (statusChanged) {
+            String status = (String) frame.get("status");
+            buffer.put(status != null ? (byte) AuctionStatus.valueOf(status).ordinal() : -1);
+        }
+        Integer bidCount = (Integer) frame.get("bidCount");
+        buffer.putInt(bidCount != null ? bidCount : 0);
+        buffer.putShort((short) listed.size());
+        for (BidDTO bid : listed) {
+            buffer.putLong(cents(bid.getAmount()));
+            buffer.putLong(id(bid.getBidderId()));
+            buffer.putLong(epochMillis(bid.getTimestamp()));
+        }
+        buffer.flip();
+        return new BinaryMessage(buffer);
+    }
+
+    private static long cents(Double amount) {
+        return amount != null ? Math.round(amount * 100) : -1L;
+    }
+
+    private static long id(Long id) {
+        return id != null ? id : -1L;
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1L;
+    }
+}
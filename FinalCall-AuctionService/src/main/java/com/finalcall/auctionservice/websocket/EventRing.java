@@ -0,0 +1,92 @@
+// src/main/java/com/finalcall/auctionservice/websocket/EventRing.java
+
+package com.finalcall.auctionservice.websocket;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer.
+ * All slots are allocated up front. Producers claim a sequence with a CAS,
+ * fill the slot and then publish it by writing the sequence into the slot's
+ * marker; the consumer reads published slots in sequence order, so items are
+ * delivered in claim order without locks.
+ *
+ * @param <T> The item type.
+ */
+class EventRing<T> {
+
+    private final Object[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+
+    /**
+     * @param capacity Number of slots; rounded up to a power of two.
+     */
+    EventRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Object[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1L);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an item without blocking.
+     *
+     * @param item The item.
+     * @return false if the ring is full.
+     */
+    boolean offer(T item) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= slots.length) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        slots[index] = item;
+        // Volatile write publishes the slot contents to the consumer
+        published.set(index, sequence);
+        return true;
+    }
+
+    /**
+     * Moves up to {@code max} published items into {@code batch}.
+     * Must only be called from the consumer thread.
+     *
+     * @return The number of items drained.
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(List<T> batch, int max) {
+        long next = consumed.get();
+        int count = 0;
+        while (count < max) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            batch.add((T) slots[index]);
+            slots[index] = null;
+            next++;
+            count++;
+        }
+        consumed.set(next);
+        return count;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    int size() {
+        return (int) (claimed.get() - consumed.get());
+    }
+}
@@ -0,0 +1,37 @@
+// src/main/java/com/finalcall/auctionservice/websocket/FrameFormat.java
+
+package com.finalcall.auctionservice.websocket;
+
+/**
+ * How protocol v2 update frames are delivered to a subscriber: JSON text or
+ * binary ({@link BinaryFrameCodec}), with or without every new bid.
+ */
+public enum FrameFormat {
+    JSON(false, false),
+    JSON_WITH_BIDS(true, false),
+    BINARY(false, true),
+    BINARY_WITH_BIDS(true, true);
+
+    private final boolean withBids;
+    private final boolean binary;
+
+    FrameFormat(boolean withBids, boolean binary) {
+        this.withBids = withBids;
+        this.binary = binary;
+    }
+
+    public boolean isWithBids() {
+        return withBids;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    public static FrameFormat of(boolean withBids, boolean binary) {
+        if (binary) {
+            return withBids ? BINARY_WITH_BIDS : BINARY;
+        }
+        return withBids ? JSON_WITH_BIDS : JSON;
+    }
+}
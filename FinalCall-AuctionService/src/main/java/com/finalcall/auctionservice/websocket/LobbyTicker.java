@@ -0,0 +1,203 @@
+// src/main/java/com/finalcall/auctionservice/websocket/LobbyTicker.java
+
+package com.finalcall.auctionservice.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.AuctionStatus;
+import com.finalcall.auctionservice.entity.AuctionType;
+import com.finalcall.auctionservice.repository.AuctionRepository;
+import com.finalcall.auctionservice.service.DutchPricing;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes one batched frame per interval with the price, bidder, status and
+ * end time of every open auction that changed, to all lobby viewers.
+ * <p>
+ * Updates are fed from the dispatch pipeline and conflated to the latest
+ * state per auction between ticks. Dutch prices fall without any update, so
+ * they are recomputed on every tick. A new viewer receives a snapshot of all
+ * open auctions, then the batches; batches carry a {@code seq}, and a viewer
+ * that sees a gap should reconnect. The snapshot carries the {@code seq} of
+ * the last batch it includes. It is built only when a viewer joins and is
+ * reused until the next batch, so ticks cost only their changes. Ended
+ * auctions appear in one batch with status ENDED and are then dropped.
+ */
+@Component
+public class LobbyTicker {
+
+    private static final Logger logger = LoggerFactory.getLogger(LobbyTicker.class);
+
+    private final SessionFanout sessionFanout;
+    private final ObjectMapper objectMapper;
+    private final AuctionRepository auctionRepository;
+    private final long intervalMillis;
+    private final ScheduledExecutorService ticker;
+
+    // Latest state of each auction changed since the last tick
+    private final Map<Long, Auction> changed = new ConcurrentHashMap<>();
+    private final Set<WebSocketSession> viewers = ConcurrentHashMap.newKeySet();
+
+    // Owned by the ticker thread, which also serves joins so snapshots and batches never interleave
+    private final Map<Long, Auction> open = new HashMap<>();
+    private final Map<Long, Map<String, Object>> lastSent = new HashMap<>();
+    private long sequence;
+    private LocalDateTime lastTick;
+    // Snapshot at the current sequence, or null until a viewer joins after the last batch
+    private TextMessage snapshotMessage;
+
+    public LobbyTicker(SessionFanout sessionFanout,
+                       ObjectMapper objectMapper,
+                       AuctionRepository auctionRepository,
+                       @Value("${auction.lobby.interval-ms:1000}") long intervalMillis) {
+        this.sessionFanout = sessionFanout;
+        this.objectMapper = objectMapper;
+        this.auctionRepository = auctionRepository;
+        this.intervalMillis = intervalMillis;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lobby-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads the open auctions and starts ticking.
+     */
+    @PostConstruct
+    public void start() {
+        ticker.execute(() -> {
+            for (Auction auction : auctionRepository.findByStatusNot(AuctionStatus.ENDED)) {
+                open.put(auction.getId(), auction);
+            }
+            tick();
+        });
+        ticker.scheduleAtFixedRate(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records the latest state of an auction for the next batch. Never blocks.
+     *
+     * @param auction A detached snapshot of the auction's committed state.
+     */
+    public void onUpdate(Auction auction) {
+        changed.put(auction.getId(), auction);
+    }
+
+    /**
+     * Sends a new lobby viewer the current snapshot, then adds it to the
+     * batch recipients. Never blocks.
+     *
+     * @param session The WebSocket session.
+     */
+    public void join(WebSocketSession session) {
+        ticker.execute(() -> {
+            try {
+                if (snapshotMessage == null) {
+                    snapshotMessage = snapshot();
+                }
+                sessionFanout.send(session, snapshotMessage);
+                // A viewer that left while waiting must not be added back
+                if (session.isOpen()) {
+                    viewers.add(session);
+                }
+            } catch (JsonProcessingException | RuntimeException e) {
+                logger.error("Lobby snapshot failed", e);
+            }
+        });
+    }
+
+    /**
+     * Removes a lobby viewer.
+     *
+     * @param session The WebSocket session.
+     */
+    public void leave(WebSocketSession session) {
+        viewers.remove(session);
+    }
+
+    private void tick() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            for (Long auctionId : changed.keySet()) {
+                Auction auction = changed.remove(auctionId);
+                if (auction != null) {
+                    open.put(auctionId, auction);
+                }
+            }
+
+            List<Map<String, Object>> changes = new ArrayList<>();
+            for (Iterator<Auction> it = open.values().iterator(); it.hasNext(); ) {
+                Auction auction = it.next();
+                Map<String, Object> entry = entry(auction, now);
+                if (!entry.equals(lastSent.get(auction.getId()))) {
+                    changes.add(entry);
+                    lastSent.put(auction.getId(), entry);
+                }
+                if (auction.getStatus() == AuctionStatus.ENDED) {
+                    it.remove();
+                    lastSent.remove(auction.getId());
+                }
+            }
+            lastTick = now;
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            Map<String, Object> batch = new LinkedHashMap<>();
+            batch.put("type", "lobby");
+            batch.put("seq", ++sequence);
+            batch.put("serverTime", now);
+            batch.put("changes", changes);
+            snapshotMessage = null;
+            viewers.removeIf(viewer -> !viewer.isOpen());
+            sessionFanout.sendDelta(viewers, new TextMessage(objectMapper.writeValueAsString(batch)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            logger.error("Lobby tick failed", e);
+        }
+    }
+
+    private TextMessage snapshot() throws JsonProcessingException {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("type", "lobbySnapshot");
+        snapshot.put("seq", sequence);
+        snapshot.put("serverTime", lastTick != null ? lastTick : LocalDateTime.now());
+        snapshot.put("auctions", new ArrayList<>(lastSent.values()));
+        return new TextMessage(objectMapper.writeValueAsString(snapshot));
+    }
+
+    private static Map<String, Object> entry(Auction auction, LocalDateTime now) {
+        Double price = auction.getCurrentBidPrice();
+        if (auction.getAuctionType() == AuctionType.DUTCH && auction.getStatus() != AuctionStatus.ENDED) {
+            price = DutchPricing.priceAt(auction, now);
+        }
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("auctionId", auction.getId());
+        entry.put("itemId", auction.getItemId());
+        entry.put("price", price);
+        entry.put("bidderId", auction.getCurrentBidderId());
+        entry.put("status", auction.getStatus());
+        entry.put("auctionEndTime", auction.getAuctionEndTime());
+        return entry;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+}
@@ -0,0 +1,35 @@
+// src/main/java/com/finalcall/auctionservice/websocket/LobbyWSHandler.java
+
+package com.finalcall.auctionservice.websocket;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * Serves the lobby ticker at {@code /ws/lobby}: a snapshot of every open
+ * auction, then one batch of changes per interval. See {@link LobbyTicker}.
+ */
+@Component
+public class LobbyWSHandler extends TextWebSocketHandler {
+
+    @Autowired
+    private LobbyTicker lobbyTicker;
+
+    @Autowired
+    private SessionFanout sessionFanout;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        sessionFanout.register(session);
+        lobbyTicker.join(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        lobbyTicker.leave(session);
+        sessionFanout.remove(session);
+    }
+}
@@ -0,0 +1,136 @@
+// src/main/java/com/finalcall/auctionservice/websocket/LongHashSet.java
+
+package com.finalcall.auctionservice.websocket;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Open-addressing hash set of primitive longs with linear probing.
+ * Holds subscription IDs without boxing them; a connection with 50
+ * subscriptions costs one small array. Not thread-safe.
+ */
+class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int size;
+    // Zero is the empty marker, so it is tracked separately
+    private boolean containsZero;
+
+    LongHashSet() {
+        this(16);
+    }
+
+    LongHashSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2) - 1) << 1;
+        this.keys = new long[capacity];
+    }
+
+    int size() {
+        return size + (containsZero ? 1 : 0);
+    }
+
+    boolean contains(long key) {
+        if (key == EMPTY) {
+            return containsZero;
+        }
+        int mask = keys.length - 1;
+        for (int i = index(key, mask); keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a key.
+     *
+     * @return true if the key was not present.
+     */
+    boolean add(long key) {
+        if (key == EMPTY) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        int mask = keys.length - 1;
+        int i = index(key, mask);
+        for (; keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return false;
+            }
+        }
+        keys[i] = key;
+        // Keep the load factor at or below one half
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @return true if the key was present.
+     */
+    boolean remove(long key) {
+        if (key == EMPTY) {
+            boolean removed = containsZero;
+            containsZero = false;
+            return removed;
+        }
+        int mask = keys.length - 1;
+        int i = index(key, mask);
+        for (; keys[i] != key; i = (i + 1) & mask) {
+            if (keys[i] == EMPTY) {
+                return false;
+            }
+        }
+        keys[i] = EMPTY;
+        size--;
+        // Shift later entries of the probe run back so lookups still find them
+        for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = index(keys[j], mask);
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                keys[j] = EMPTY;
+                i = j;
+            }
+        }
+        return true;
+    }
+
+    void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(EMPTY);
+        }
+        for (long key : keys) {
+            if (key != EMPTY) {
+                action.accept(key);
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] old = keys;
+        keys = new long[capacity];
+        int mask = capacity - 1;
+        for (long key : old) {
+            if (key != EMPTY) {
+                int i = index(key, mask);
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+            }
+        }
+    }
+
+    private static int index(long key, int mask) {
+        // Spread sequential IDs across the table
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
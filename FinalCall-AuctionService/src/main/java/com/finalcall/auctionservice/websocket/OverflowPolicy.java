@@ -0,0 +1,15 @@
+// src/main/java/com/finalcall/auctionservice/websocket/OverflowPolicy.java
+
+package com.finalcall.auctionservice.websocket;
+
+/**
+ * What to do when a session's outbound queue is full.
+ */
+public enum OverflowPolicy {
+    /** Replace the queued state of the same auction with the newer one; otherwise drop the oldest frame. */
+    CONFLATE,
+    /** Drop delta frames; full-state frames are still queued. */
+    DROP_DELTAS,
+    /** Close the session as a slow consumer. */
+    DISCONNECT
+}
@@ -0,0 +1,52 @@
+// src/main/java/com/finalcall/auctionservice/websocket/SequencedMessage.java
+
+package com.finalcall.auctionservice.websocket;
+
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * An encoded protocol v2 text frame together with the stream position it
+ * carries, so transports that label frames, such as SSE event IDs, need not
+ * read it back out of the JSON. WebSocket sessions are sent the wrapped
+ * {@link TextMessage}.
+ */
+class SequencedMessage implements WebSocketMessage<String> {
+
+    private final TextMessage message;
+    private final long epoch;
+    private final long seq;
+
+    SequencedMessage(TextMessage message, long epoch, long seq) {
+        this.message = message;
+        this.epoch = epoch;
+        this.seq = seq;
+    }
+
+    TextMessage getMessage() {
+        return message;
+    }
+
+    long getEpoch() {
+        return epoch;
+    }
+
+    long getSeq() {
+        return seq;
+    }
+
+    @Override
+    public String getPayload() {
+        return message.getPayload();
+    }
+
+    @Override
+    public int getPayloadLength() {
+        return message.getPayloadLength();
+    }
+
+    @Override
+    public boolean isLast() {
+        return message.isLast();
+    }
+}
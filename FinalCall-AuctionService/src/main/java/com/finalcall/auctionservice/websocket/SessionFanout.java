@@ -0,0 +1,197 @@
+// src/main/java/com/finalcall/auctionservice/websocket/SessionFanout.java
+
+package com.finalcall.auctionservice.websocket;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes pre-encoded frames to WebSocket sessions through per-session
+ * bounded queues ({@link SessionOutbox}).
+ * <p>
+ * Callers encode a frame once and hand the same immutable message to every
+ * subscriber. Queuing never blocks, and each session has at most one write in
+ * flight, so a slow client only ever delays itself. When a session's queue is
+ * full, the configured {@link OverflowPolicy} decides whether to conflate,
+ * drop deltas or disconnect it.
+ */
+@Component
+public class SessionFanout {
+
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long sendTimeoutMillis;
+    private final ExecutorService blockingExecutor;
+    private final ScheduledExecutorService sendTimer;
+    private final Map<String, SessionOutbox> outboxes = new ConcurrentHashMap<>();
+
+    // Totals including sessions that have since closed
+    private final AtomicLong slowConsumersDisconnected = new AtomicLong();
+    private final AtomicLong closedDropped = new AtomicLong();
+    private final AtomicLong closedConflated = new AtomicLong();
+
+    public SessionFanout(@Value("${auction.ws.send-threads:4}") int threads,
+                         @Value("${auction.ws.queue-capacity:64}") int queueCapacity,
+                         @Value("${auction.ws.overflow-policy:CONFLATE}") OverflowPolicy overflowPolicy,
+                         @Value("${auction.ws.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        AtomicLong threadCount = new AtomicLong();
+        this.blockingExecutor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "ws-send-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sendTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ws-send-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a frame for one session in answer to its own request, such as a
+     * snapshot, a replay or an error. Such frames are never dropped.
+     *
+     * @param session The WebSocket session.
+     * @param message The encoded frame.
+     */
+    public void send(WebSocketSession session, WebSocketMessage<?> message) {
+        SessionOutbox outbox = outboxes.get(session.getId());
+        if (outbox != null) {
+            outbox.offerDirect(message);
+        }
+    }
+
+    /**
+     * Queues a frame carrying the full state of an auction for every given
+     * session. Under {@link OverflowPolicy#CONFLATE} it replaces a queued,
+     * older state of the same auction.
+     *
+     * @param sessions  The WebSocket sessions.
+     * @param auctionId The ID of the auction.
+     * @param message   The encoded frame, shared by all sessions.
+     */
+    public void sendState(Collection<WebSocketSession> sessions, Long auctionId, WebSocketMessage<?> message) {
+        for (WebSocketSession session : sessions) {
+            SessionOutbox outbox = outboxes.get(session.getId());
+            if (outbox != null && !outbox.offerState(message, auctionId)) {
+                slowConsumersDisconnected.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Queues a delta frame for every given session.
+     *
+     * @param sessions The WebSocket sessions.
+     * @param message  The encoded frame, shared by all sessions.
+     */
+    public void sendDelta(Collection<WebSocketSession> sessions, WebSocketMessage<?> message) {
+        for (WebSocketSession session : sessions) {
+            SessionOutbox outbox = outboxes.get(session.getId());
+            if (outbox != null && !outbox.offerDelta(message)) {
+                slowConsumersDisconnected.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Closes a session once the frames already queued for it have been written.
+     *
+     * @param session The WebSocket session.
+     * @param status  The close status.
+     */
+    public void close(WebSocketSession session, CloseStatus status) {
+        SessionOutbox outbox = outboxes.get(session.getId());
+        if (outbox != null) {
+            outbox.close(status);
+        }
+    }
+
+    /**
+     * Creates the outbound queue of a new session. Frames for sessions that
+     * are not registered, or no longer, are discarded.
+     *
+     * @param session The WebSocket session.
+     */
+    public void register(WebSocketSession session) {
+        outboxes.put(session.getId(),
+                new SessionOutbox(session, queueCapacity, overflowPolicy, blockingExecutor, sendTimer, sendTimeoutMillis));
+    }
+
+    /**
+     * Forgets a closed session's queue.
+     *
+     * @param session The WebSocket session.
+     */
+    public void remove(WebSocketSession session) {
+        SessionOutbox outbox = outboxes.remove(session.getId());
+        if (outbox != null) {
+            closedDropped.addAndGet(outbox.getDropped());
+            closedConflated.addAndGet(outbox.getConflated());
+        }
+    }
+
+    /**
+     * Reports queue depths and drop counts, overall and for the sessions with
+     * the deepest queues.
+     *
+     * @param limit The maximum number of sessions to list.
+     * @return The metrics.
+     */
+    public Map<String, Object> getMetrics(int limit) {
+        List<SessionOutbox> open = new ArrayList<>(outboxes.values());
+        long queued = 0;
+        long dropped = closedDropped.get();
+        long conflated = closedConflated.get();
+        List<Map<String, Object>> perSession = new ArrayList<>(open.size());
+        for (SessionOutbox outbox : open) {
+            int depth = outbox.getQueueDepth();
+            long sessionDropped = outbox.getDropped();
+            long sessionConflated = outbox.getConflated();
+            queued += depth;
+            dropped += sessionDropped;
+            conflated += sessionConflated;
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("sessionId", outbox.getSession().getId());
+            entry.put("queueDepth", depth);
+            entry.put("dropped", sessionDropped);
+            entry.put("conflated", sessionConflated);
+            perSession.add(entry);
+        }
+        perSession.sort(Comparator.comparing((Map<String, Object> entry) -> (Integer) entry.get("queueDepth")).reversed());
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("overflowPolicy", overflowPolicy);
+        metrics.put("queueCapacity", queueCapacity);
+        metrics.put("sessions", open.size());
+        metrics.put("queued", queued);
+        metrics.put("dropped", dropped);
+        metrics.put("conflated", conflated);
+        metrics.put("slowConsumersDisconnected", slowConsumersDisconnected.get());
+        metrics.put("perSession", perSession.subList(0, Math.min(Math.max(0, limit), perSession.size())));
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        blockingExecutor.shutdown();
+        blockingExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        sendTimer.shutdownNow();
+    }
+}
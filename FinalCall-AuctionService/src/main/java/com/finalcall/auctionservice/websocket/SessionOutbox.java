@@ -0,0 +1,335 @@
+// src/main/java/com/finalcall/auctionservice/websocket/SessionOutbox.java
+
+package com.finalcall.auctionservice.websocket;
+
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.*;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Bounded outbound queue of one WebSocket session.
+ * <p>
+ * At most one frame per session is in flight. Frames are written with the
+ * container's asynchronous send where available, so a slow client never holds
+ * a thread; otherwise they are written with a blocking send on the fan-out
+ * executor. A failed or timed-out send closes the session. A blocking send
+ * cannot be cancelled, so when one outlasts the send timeout the session is
+ * given up at once: its queue is discarded and it is closed, which the
+ * session may defer until the write returns.
+ * <p>
+ * Broadcast frames are subject to the queue bound and the overflow policy.
+ * Frames addressed to this session alone (snapshots, replays, errors) answer
+ * the session's own request and are always queued.
+ */
+class SessionOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionOutbox.class);
+
+    private final WebSocketSession session;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final Executor blockingExecutor;
+    private final ScheduledExecutorService sendTimer;
+    private final long sendTimeoutMillis;
+    private final RemoteEndpoint.Async asyncRemote;
+
+    // Guarded by this
+    private final ArrayDeque<Frame> queue = new ArrayDeque<>();
+    private boolean sending;
+    private boolean draining;
+    private boolean closed;
+    private long dropped;
+    private long conflated;
+
+    SessionOutbox(WebSocketSession session, int capacity, OverflowPolicy policy,
+                  Executor blockingExecutor, ScheduledExecutorService sendTimer, long sendTimeoutMillis) {
+        this.session = session;
+        this.capacity = Math.max(1, capacity);
+        this.policy = policy;
+        this.blockingExecutor = blockingExecutor;
+        this.sendTimer = sendTimer;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        Session nativeSession = session instanceof NativeWebSocketSession
+                ? ((NativeWebSocketSession) session).getNativeSession(Session.class) : null;
+        this.asyncRemote = nativeSession != null ? nativeSession.getAsyncRemote() : null;
+        if (asyncRemote != null && sendTimeoutMillis > 0) {
+            asyncRemote.setSendTimeout(sendTimeoutMillis);
+        }
+    }
+
+    WebSocketSession getSession() {
+        return session;
+    }
+
+    synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    synchronized long getDropped() {
+        return dropped;
+    }
+
+    synchronized long getConflated() {
+        return conflated;
+    }
+
+    /**
+     * Queues a frame for this session alone; never dropped.
+     */
+    void offerDirect(WebSocketMessage<?> message) {
+        offer(new Frame(message, null, false, false), false);
+    }
+
+    /**
+     * Queues a broadcast frame carrying the full state of an auction.
+     *
+     * @return false if the session was disconnected as a slow consumer.
+     */
+    boolean offerState(WebSocketMessage<?> message, Long auctionId) {
+        return offer(new Frame(message, auctionId, false, true), true);
+    }
+
+    /**
+     * Queues a broadcast delta frame.
+     *
+     * @return false if the session was disconnected as a slow consumer.
+     */
+    boolean offerDelta(WebSocketMessage<?> message) {
+        return offer(new Frame(message, null, true, true), true);
+    }
+
+    /**
+     * Queues a close of the session after the frames already queued.
+     */
+    void close(CloseStatus status) {
+        offer(new Frame(null, null, false, false, status), false);
+    }
+
+    private boolean offer(Frame frame, boolean bounded) {
+        boolean accepted = true;
+        synchronized (this) {
+            if (closed) {
+                return true;
+            }
+            if (bounded && queue.size() >= capacity && !makeRoom(frame)) {
+                dropped++;
+                if (policy != OverflowPolicy.DISCONNECT) {
+                    return true;
+                }
+                // Slow consumer: discard its backlog and close it after the frame in flight
+                dropped += queue.size();
+                queue.clear();
+                frame = new Frame(null, null, false, false, CloseStatus.SESSION_NOT_RELIABLE);
+                accepted = false;
+            }
+            queue.add(frame);
+            if (frame.closeStatus != null) {
+                closed = true;
+            }
+        }
+        drain();
+        return accepted;
+    }
+
+    /**
+     * Applies the overflow policy to a full queue.
+     *
+     * @return true if the frame may be queued.
+     */
+    private boolean makeRoom(Frame incoming) {
+        switch (policy) {
+            case CONFLATE:
+                if (incoming.auctionId != null && removeFirst(frame -> Objects.equals(frame.auctionId, incoming.auctionId))) {
+                    conflated++;
+                    return true;
+                }
+                if (removeFirst(frame -> frame.bounded)) {
+                    dropped++;
+                    return true;
+                }
+                return false;
+            case DROP_DELTAS:
+                if (incoming.delta) {
+                    return false;
+                }
+                for (Iterator<Frame> it = queue.iterator(); it.hasNext(); ) {
+                    if (it.next().delta) {
+                        it.remove();
+                        dropped++;
+                    }
+                }
+                if (queue.size() < capacity) {
+                    return true;
+                }
+                if (removeFirst(frame -> frame.bounded)) {
+                    dropped++;
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private boolean removeFirst(Predicate<Frame> matching) {
+        for (Iterator<Frame> it = queue.iterator(); it.hasNext(); ) {
+            if (matching.test(it.next())) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts writing queued frames unless a write is in flight. Completions
+     * that arrive on this thread while it is writing continue this loop
+     * instead of recursing.
+     */
+    private void drain() {
+        synchronized (this) {
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            Frame frame;
+            synchronized (this) {
+                if (sending || queue.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                frame = queue.poll();
+                sending = true;
+            }
+            transmit(frame);
+        }
+    }
+
+    private void transmit(Frame frame) {
+        try {
+            if (frame.closeStatus != null) {
+                if (session.isOpen()) {
+                    session.close(frame.closeStatus);
+                }
+                onSent(null);
+            } else if (!session.isOpen()) {
+                onSent(null);
+            } else if (asyncRemote != null && (frame.message instanceof TextMessage || frame.message instanceof SequencedMessage)) {
+                asyncRemote.sendText((String) frame.message.getPayload(), sendHandler());
+            } else if (asyncRemote != null && frame.message instanceof BinaryMessage) {
+                // Shared frames: each session reads through its own view of the buffer
+                ByteBuffer payload = ((BinaryMessage) frame.message).getPayload().duplicate();
+                asyncRemote.sendBinary(payload, sendHandler());
+            } else {
+                blockingExecutor.execute(() -> sendBlocking(frame.message));
+            }
+        } catch (IOException | RuntimeException e) {
+            onSent(e);
+        }
+    }
+
+    /**
+     * Writes a frame with the session's own blocking send, giving the session
+     * up if the write outlasts the send timeout.
+     */
+    private void sendBlocking(WebSocketMessage<?> message) {
+        // Whichever of the write and the timeout finishes first completes the send
+        AtomicBoolean completed = new AtomicBoolean();
+        Consumer<Throwable> complete = failure -> {
+            if (completed.compareAndSet(false, true)) {
+                onSent(failure);
+            }
+        };
+        ScheduledFuture<?> timeout = sendTimeoutMillis > 0 ? sendTimer.schedule(() -> complete.accept(
+                new SocketTimeoutException("Send timed out after " + sendTimeoutMillis + " ms")),
+                sendTimeoutMillis, TimeUnit.MILLISECONDS) : null;
+        try {
+            session.sendMessage(outgoing(message));
+            complete.accept(null);
+        } catch (IOException | RuntimeException e) {
+            complete.accept(e);
+        } finally {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Adapts a queued frame to the session: shared binary frames get their own
+     * view of the buffer, and only SSE sessions take the seq and epoch of a
+     * {@link SequencedMessage}.
+     */
+    private WebSocketMessage<?> outgoing(WebSocketMessage<?> message) {
+        if (message instanceof BinaryMessage) {
+            return new BinaryMessage(((BinaryMessage) message).getPayload().duplicate());
+        }
+        if (message instanceof SequencedMessage && !(session instanceof SseSession)) {
+            return ((SequencedMessage) message).getMessage();
+        }
+        return message;
+    }
+
+    private SendHandler sendHandler() {
+        return result -> onSent(result.isOK() ? null : result.getException());
+    }
+
+    private void onSent(Throwable failure) {
+        if (failure != null) {
+            logger.debug("Failed to send to WebSocket session {}; closing it", session.getId(), failure);
+            synchronized (this) {
+                queue.clear();
+                closed = true;
+            }
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException | RuntimeException e) {
+                // Already closed
+            }
+        }
+        synchronized (this) {
+            sending = false;
+        }
+        drain();
+    }
+
+    private static class Frame {
+        private final WebSocketMessage<?> message;
+        private final Long auctionId;
+        private final boolean delta;
+        private final boolean bounded;
+        private final CloseStatus closeStatus;
+
+        private Frame(WebSocketMessage<?> message, Long auctionId, boolean delta, boolean bounded) {
+            this(message, auctionId, delta, bounded, null);
+        }
+
+        private Frame(WebSocketMessage<?> message, Long auctionId, boolean delta, boolean bounded, CloseStatus closeStatus) {
+            this.message = message;
+            this.auctionId = auctionId;
+            this.delta = delta;
+            this.bounded = bounded;
+            this.closeStatus = closeStatus;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+// src/main/java/com/finalcall/auctionservice/websocket/SseSession.java
+
+package com.finalcall.auctionservice.websocket;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Presents a Server-Sent Events connection as a send-only WebSocket session,
+ * so SSE watchers share the dispatcher streams and bounded outbound queues
+ * with WebSocket subscribers. Each text frame becomes one event; stream
+ * frames ({@link SequencedMessage}) get the event ID {@code <epoch>-<seq>},
+ * which the browser sends back as {@code Last-Event-ID} when it reconnects.
+ * <p>
+ * Emitter writes block, and the emitter is locked while one is in flight, so
+ * closing the session during a write only marks it closed; the emitter is
+ * completed when the write returns. This keeps a send timeout from waiting
+ * on a stalled client.
+ */
+class SseSession implements WebSocketSession {
+
+    private static final AtomicLong ids = new AtomicLong();
+
+    private final String id = "sse-" + ids.incrementAndGet();
+    private final SseEmitter emitter;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private volatile boolean open = true;
+
+    // Guarded by this
+    private boolean sending;
+    private boolean completed;
+
+    /**
+     * @param emitter The emitter events are sent to.
+     */
+    SseSession(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Marks the session closed after its emitter completed, timed out or failed.
+     */
+    synchronized void markClosed() {
+        open = false;
+        completed = true;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (!(message instanceof SequencedMessage) && !(message instanceof TextMessage)) {
+            throw new IllegalArgumentException("SSE carries text frames only");
+        }
+        SseEmitter.SseEventBuilder event = SseEmitter.event().data(message.getPayload(), MediaType.APPLICATION_JSON);
+        if (message instanceof SequencedMessage) {
+            SequencedMessage sequenced = (SequencedMessage) message;
+            event.id(sequenced.getEpoch() + "-" + sequenced.getSeq());
+        }
+        synchronized (this) {
+            if (!open) {
+                throw new IOException("SSE session " + id + " is closed");
+            }
+            sending = true;
+        }
+        try {
+            emitter.send(event);
+        } finally {
+            boolean complete;
+            synchronized (this) {
+                sending = false;
+                complete = !open && !completed;
+                completed |= complete;
+            }
+            if (complete) {
+                emitter.complete();
+            }
+        }
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public URI getUri() {
+        return null;
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+        return new HttpHeaders();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+        return null;
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return 0;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+        return List.of();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void close(CloseStatus status) {
+        boolean complete;
+        synchronized (this) {
+            open = false;
+            // A write in flight completes the emitter when it returns
+            complete = !sending && !completed;
+            completed |= complete;
+        }
+        if (complete) {
+            emitter.complete();
+        }
+    }
+}
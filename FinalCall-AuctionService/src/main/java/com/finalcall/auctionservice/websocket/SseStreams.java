@@ -0,0 +1,72 @@
+// src/main/java/com/finalcall/auctionservice/websocket/SseStreams.java
+
+package com.finalcall.auctionservice.websocket;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Opens Server-Sent Events subscriptions to an auction's protocol v2 stream.
+ * <p>
+ * Watchers receive the same JSON snapshot and update frames as WebSocket
+ * subscribers, through the same per-session bounded queue. The emitter runs
+ * on servlet async I/O, so an idle watcher holds no thread, only its
+ * connection and queue. When the connection drops, the browser reconnects
+ * with the last event ID and resumes from the replay ring where possible.
+ */
+@Component
+public class SseStreams {
+
+    private final AuctionEventDispatcher auctionEventDispatcher;
+    private final SessionFanout sessionFanout;
+    private final long timeoutMillis;
+
+    public SseStreams(AuctionEventDispatcher auctionEventDispatcher,
+                      SessionFanout sessionFanout,
+                      @Value("${auction.sse.timeout-ms:1800000}") long timeoutMillis) {
+        this.auctionEventDispatcher = auctionEventDispatcher;
+        this.sessionFanout = sessionFanout;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Subscribes a new SSE watcher to an auction.
+     *
+     * @param auctionId   The ID of the auction.
+     * @param lastEventId The {@code Last-Event-ID} sent on reconnect, as {@code <epoch>-<seq>}; may be null.
+     * @param withBids    Whether update frames should list every new bid.
+     * @return The emitter to return from the controller.
+     */
+    public SseEmitter open(Long auctionId, String lastEventId, boolean withBids) {
+        Long epoch = null;
+        Long lastSeq = null;
+        if (lastEventId != null) {
+            int separator = lastEventId.indexOf('-');
+            try {
+                epoch = Long.parseLong(lastEventId.substring(0, separator));
+                lastSeq = Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                // Not one of ours; start from a snapshot
+                epoch = null;
+                lastSeq = null;
+            }
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        SseSession session = new SseSession(emitter);
+        Runnable release = () -> {
+            session.markClosed();
+            auctionEventDispatcher.unsubscribe(auctionId, session);
+            sessionFanout.remove(session);
+        };
+        emitter.onCompletion(release);
+        emitter.onTimeout(release);
+        emitter.onError(error -> release.run());
+
+        sessionFanout.register(session);
+        auctionEventDispatcher.subscribe(auctionId, session, epoch, lastSeq,
+                FrameFormat.of(withBids, false), true);
+        return emitter;
+    }
+}
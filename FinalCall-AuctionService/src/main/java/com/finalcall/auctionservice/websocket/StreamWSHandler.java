@@ -0,0 +1,134 @@
+// src/main/java/com/finalcall/auctionservice/websocket/StreamWSHandler.java
+
+package com.finalcall.auctionservice.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves protocol v2 frames for many auctions over one connection at
+ * {@code /ws/stream}. Every frame carries its {@code auctionId}.
+ * <p>
+ * Clients send:
+ * <pre>
+ * {"type":"subscribe","auctionIds":[1,2,3]}
+ * {"type":"subscribe","auctionIds":[1],"history":"full","resume":{"1":{"epoch":..,"lastSeq":..}}}
+ * {"type":"unsubscribe","auctionIds":[2]}
+ * </pre>
+ * Each new subscription starts with a snapshot, or with the missed frames if
+ * it resumes. Subscribing again to an auction, e.g. after a gap in its
+ * {@code seq}, restarts it the same way. Problems are reported as
+ * {@code {"type":"error",...}} frames; the connection stays open.
+ * Connections that negotiate the {@value BinaryFrameCodec#SUBPROTOCOL}
+ * subprotocol receive update frames in binary.
+ */
+@Component
+public class StreamWSHandler extends TextWebSocketHandler implements SubProtocolCapable {
+
+    private static final String SUBSCRIPTIONS = "subscriptions";
+
+    @Autowired
+    private AuctionEventDispatcher auctionEventDispatcher;
+
+    @Autowired
+    private SessionFanout sessionFanout;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${auction.ws.max-subscriptions:200}")
+    private int maxSubscriptions;
+
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(BinaryFrameCodec.SUBPROTOCOL);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        sessionFanout.register(session);
+        session.getAttributes().put(SUBSCRIPTIONS, new LongHashSet());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        JsonNode request;
+        try {
+            request = objectMapper.readTree(message.getPayload());
+        } catch (JsonProcessingException e) {
+            sendError(session, "Malformed message.");
+            return;
+        }
+        JsonNode auctionIds = request.path("auctionIds");
+        if (!auctionIds.isArray()) {
+            sendError(session, "auctionIds must be an array.");
+            return;
+        }
+
+        // Messages of one session are handled one at a time, so the set needs no locking
+        LongHashSet subscriptions = subscriptions(session);
+        switch (request.path("type").asText()) {
+            case "subscribe":
+                FrameFormat format = FrameFormat.of("full".equals(request.path("history").asText()),
+                        BinaryFrameCodec.isBinary(session));
+                for (JsonNode id : auctionIds) {
+                    long auctionId = id.asLong();
+                    if (!subscriptions.contains(auctionId) && subscriptions.size() >= maxSubscriptions) {
+                        sendError(session, "Subscription limit of " + maxSubscriptions + " reached.");
+                        break;
+                    }
+                    subscriptions.add(auctionId);
+                    JsonNode resume = request.path("resume").path(Long.toString(auctionId));
+                    auctionEventDispatcher.subscribe(auctionId, session,
+                            resume.hasNonNull("epoch") ? resume.get("epoch").asLong() : null,
+                            resume.hasNonNull("lastSeq") ? resume.get("lastSeq").asLong() : null,
+                            format, false);
+                }
+                break;
+            case "unsubscribe":
+                for (JsonNode id : auctionIds) {
+                    long auctionId = id.asLong();
+                    if (subscriptions.remove(auctionId)) {
+                        auctionEventDispatcher.unsubscribe(auctionId, session);
+                    }
+                }
+                break;
+            default:
+                sendError(session, "Unknown message type.");
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        subscriptions(session).forEach(auctionId -> auctionEventDispatcher.unsubscribe(auctionId, session));
+        sessionFanout.remove(session);
+    }
+
+    private LongHashSet subscriptions(WebSocketSession session) {
+        return (LongHashSet) session.getAttributes().get(SUBSCRIPTIONS);
+    }
+
+    private void sendError(WebSocketSession session, String error) {
+        Map<String, Object> frame = new LinkedHashMap<>();
+        frame.put("type", "error");
+        frame.put("error", error);
+        try {
+            sessionFanout.send(session, new TextMessage(objectMapper.writeValueAsString(frame)));
+        } catch (JsonProcessingException e) {
+            // A map of two strings always serializes
+        }
+    }
+}
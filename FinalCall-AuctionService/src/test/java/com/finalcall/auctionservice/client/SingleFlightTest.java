@@ -0,0 +1,141 @@
+package com.finalcall.auctionservice.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 4;
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+    @AfterEach
+    void stopCallers() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneCall() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", true);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(flight, 1L, () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "item";
+        });
+        awaitCollapsed(flight, FOLLOWERS);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("item", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals((long) FOLLOWERS + 1, flight.getStats().get("calls"));
+        assertEquals(0, flight.getStats().get("inFlight"));
+    }
+
+    @Test
+    void concurrentCallersShareTheFailure() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", true);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("unavailable");
+
+        List<Future<String>> results = callConcurrently(flight, 1L, () -> {
+            await(release);
+            throw failure;
+        });
+        awaitCollapsed(flight, FOLLOWERS);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, e.getCause());
+        }
+    }
+
+    @Test
+    void completedCallsAreNotCached() {
+        SingleFlight<Long, Integer> flight = new SingleFlight<>("test", true);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals(1, flight.execute(1L, calls::incrementAndGet));
+        assertEquals(2, flight.execute(1L, calls::incrementAndGet));
+        assertEquals(0L, flight.getStats().get("collapsed"));
+    }
+
+    @Test
+    void callsForDifferentKeysAreNotShared() throws Exception {
+        SingleFlight<Long, Long> flight = new SingleFlight<>("test", true);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Long> first = callers.submit(() -> flight.execute(1L, () -> {
+            await(release);
+            return 1L;
+        }));
+        assertEquals(2L, flight.execute(2L, () -> 2L));
+        release.countDown();
+
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS));
+        assertEquals(0L, flight.getStats().get("collapsed"));
+    }
+
+    @Test
+    void disabledFlightCallsEveryTime() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", false);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch arrived = new CountDownLatch(FOLLOWERS + 1);
+
+        List<Future<String>> results = callConcurrently(flight, 1L, () -> {
+            calls.incrementAndGet();
+            // Returns only once every caller is inside its own call
+            arrived.countDown();
+            await(arrived);
+            return "item";
+        });
+
+        for (Future<String> result : results) {
+            assertEquals("item", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(FOLLOWERS + 1, calls.get());
+        assertEquals(0L, flight.getStats().get("collapsed"));
+    }
+
+    private <V> List<Future<V>> callConcurrently(SingleFlight<Long, V> flight, Long key, Supplier<V> call) {
+        List<Future<V>> results = new ArrayList<>();
+        for (int i = 0; i <= FOLLOWERS; i++) {
+            results.add(callers.submit(() -> flight.execute(key, call)));
+        }
+        return results;
+    }
+
+    private static void awaitCollapsed(SingleFlight<?, ?> flight, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((long) flight.getStats().get("collapsed") < expected) {
+            assertTrue(System.nanoTime() < deadline, "callers did not join the call in flight");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
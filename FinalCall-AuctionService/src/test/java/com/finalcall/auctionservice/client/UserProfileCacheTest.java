@@ -0,0 +1,117 @@
+package com.finalcall.auctionservice.client;
+
+import com.finalcall.auctionservice.dto.UserDTO;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserProfileCacheTest {
+
+    private final FakeAuthenticationServiceClient client = new FakeAuthenticationServiceClient();
+    private final UserProfileCache cache = new UserProfileCache(client, 10_000, 3_600_000, 300_000, 60_000);
+
+    @Test
+    void cachesUnknownUsersAsAbsent() {
+        assertTrue(cache.getUser(9L).isEmpty());
+        assertTrue(cache.getUser(9L).isEmpty());
+
+        assertEquals(1, client.singleCalls);
+    }
+
+    @Test
+    void doesNotCacheFailedLookups() {
+        client.users.put(1L, user(1L));
+        client.failure = new IllegalStateException("AuthenticationService is down");
+
+        assertTrue(cache.getUser(1L).isEmpty());
+        client.failure = null;
+
+        assertEquals("user1", cache.getUser(1L).orElseThrow().getUsername());
+        assertEquals(2, client.singleCalls);
+    }
+
+    @Test
+    void fetchesOnlyMissesInOneBatchCallAndCachesUsersItOmits() {
+        client.users.put(1L, user(1L));
+        client.users.put(2L, user(2L));
+        cache.getUser(1L);
+
+        Map<Long, UserDTO> users = cache.getUsers(Arrays.asList(1L, 2L, 3L, 2L, null));
+
+        assertEquals(Set.of(1L, 2L), users.keySet());
+        assertEquals(List.of(Set.of(2L, 3L)), client.batches);
+        assertTrue(cache.getUsers(List.of(3L)).isEmpty());
+        assertEquals(1, client.batches.size());
+    }
+
+    @Test
+    void splitsMissesIntoBatchesTheServiceAccepts() {
+        List<Long> ids = LongStream.rangeClosed(1, AuthenticationServiceClient.MAX_BATCH_SIZE + 1)
+                .boxed().collect(Collectors.toList());
+
+        cache.getUsers(ids);
+
+        assertEquals(2, client.batches.size());
+        assertEquals(AuthenticationServiceClient.MAX_BATCH_SIZE, client.batches.get(0).size());
+        assertEquals(1, client.batches.get(1).size());
+    }
+
+    @Test
+    void returnsCachedUsersWhenTheBatchCallFails() {
+        client.users.put(1L, user(1L));
+        client.users.put(2L, user(2L));
+        cache.getUser(1L);
+        client.failure = new IllegalStateException("AuthenticationService is down");
+
+        assertEquals(Set.of(1L), cache.getUsers(List.of(1L, 2L)).keySet());
+    }
+
+    private static UserDTO user(Long id) {
+        UserDTO user = new UserDTO();
+        user.setId(id);
+        user.setUsername("user" + id);
+        return user;
+    }
+
+    /**
+     * Answers from a map of users the way the Feign client does: unknown
+     * users are a 404 singly and omitted from batches.
+     */
+    private static class FakeAuthenticationServiceClient implements AuthenticationServiceClient {
+        private final Map<Long, UserDTO> users = new HashMap<>();
+        private final List<Set<Long>> batches = new ArrayList<>();
+        private int singleCalls;
+        private RuntimeException failure;
+
+        @Override
+        public UserDTO getUserById(Long userId) {
+            singleCalls++;
+            if (failure != null) {
+                throw failure;
+            }
+            UserDTO user = users.get(userId);
+            if (user == null) {
+                Request request = Request.create(Request.HttpMethod.GET, "/api/users/" + userId,
+                        Map.of(), null, StandardCharsets.UTF_8, null);
+                throw new FeignException.NotFound("User not found", request, null, Map.of());
+            }
+            return user;
+        }
+
+        @Override
+        public List<UserDTO> getUsersByIds(Collection<Long> userIds) {
+            batches.add(new HashSet<>(userIds));
+            if (failure != null) {
+                throw failure;
+            }
+            return userIds.stream().map(users::get).filter(Objects::nonNull).collect(Collectors.toList());
+        }
+    }
+}
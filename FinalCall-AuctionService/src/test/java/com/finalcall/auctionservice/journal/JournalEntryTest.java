@@ -0,0 +1,126 @@
+package com.finalcall.auctionservice.journal;
+
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.AuctionStatus;
+import com.finalcall.auctionservice.entity.AuctionType;
+import com.finalcall.auctionservice.entity.Bid;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalEntryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 1, 12, 0, 0, 123_000_000);
+
+    @Test
+    void roundTripsAuctionBidsAndProxies() {
+        Map<Long, Double> proxies = new LinkedHashMap<>();
+        proxies.put(5L, 120.0);
+        proxies.put(3L, 110.0);
+        List<Bid> bids = List.of(bid(101.0, 8L, 1), bid(111.0, 5L, 5));
+
+        JournalEntry decoded = JournalEntry.decode(new JournalEntry(auction(), bids, proxies).encode());
+
+        assertAuction(decoded.getAuction());
+        assertEquals(2, decoded.getBids().size());
+        Bid second = decoded.getBids().get(1);
+        assertEquals(111.0, second.getAmount());
+        assertEquals(5L, second.getBidderId());
+        assertEquals(42L, second.getAuctionId());
+        assertEquals(START.plusSeconds(5), second.getTimestamp());
+        assertEquals(9L, second.getAuctionVersion());
+        // Registration order decides ties, so it must survive
+        assertEquals(List.of(5L, 3L), new ArrayList<>(decoded.getProxyMaximums().keySet()));
+        assertEquals(proxies, decoded.getProxyMaximums());
+    }
+
+    @Test
+    void roundTripsAbsentFields() {
+        Auction auction = new Auction();
+        auction.setId(42L);
+
+        JournalEntry decoded = JournalEntry.decode(new JournalEntry(auction, List.of()).encode());
+
+        assertEquals(42L, decoded.getAuction().getId());
+        assertNull(decoded.getAuction().getItemId());
+        assertNull(decoded.getAuction().getAuctionType());
+        assertNull(decoded.getAuction().getAuctionEndTime());
+        assertNull(decoded.getAuction().getPriceTickSeconds());
+        assertTrue(decoded.getAuction().getImageUrls().isEmpty());
+        assertTrue(decoded.getBids().isEmpty());
+        assertNull(decoded.getProxyMaximums());
+    }
+
+    @Test
+    void rejectsOtherFormatVersions() {
+        for (byte version : new byte[] {0, 1, 9}) {
+            byte[] payload = new JournalEntry(auction(), List.of()).encode();
+            payload[0] = version;
+
+            assertThrows(IllegalArgumentException.class, () -> JournalEntry.decode(payload));
+        }
+        assertThrows(IllegalArgumentException.class, () -> JournalEntry.decode(new byte[0]));
+    }
+
+    @Test
+    void rejectsTruncatedAndPaddedPayloads() {
+        byte[] payload = new JournalEntry(auction(), List.of(bid(101.0, 8L, 1))).encode();
+
+        assertThrows(UncheckedIOException.class,
+                () -> JournalEntry.decode(Arrays.copyOf(payload, payload.length - 4)));
+        assertThrows(UncheckedIOException.class,
+                () -> JournalEntry.decode(Arrays.copyOf(payload, payload.length + 1)));
+    }
+
+    private static Auction auction() {
+        Auction auction = new Auction();
+        auction.setId(42L);
+        auction.setItemId(7L);
+        auction.setAuctionType(AuctionType.DUTCH);
+        auction.setStartingBidPrice(150.0);
+        auction.setCurrentBidPrice(111.0);
+        auction.setAuctionEndTime(START.plusHours(2));
+        auction.setSellerId(3L);
+        auction.setStartTime(START);
+        auction.setPriceDecrement(1.5);
+        auction.setMinimumPrice(20.0);
+        auction.setPriceTickSeconds(30);
+        auction.setCurrentBidderId(5L);
+        auction.setStatus(AuctionStatus.ACTIVE);
+        auction.setVersion(9L);
+        auction.setImageUrls(new ArrayList<>(List.of("a.jpg", "b.jpg")));
+        return auction;
+    }
+
+    private static Bid bid(double amount, Long bidderId, long secondsAfterStart) {
+        Bid bid = new Bid(amount, 42L, bidderId);
+        bid.setTimestamp(START.plusSeconds(secondsAfterStart));
+        return bid;
+    }
+
+    private static void assertAuction(Auction auction) {
+        assertEquals(42L, auction.getId());
+        assertEquals(7L, auction.getItemId());
+        assertEquals(AuctionType.DUTCH, auction.getAuctionType());
+        assertEquals(150.0, auction.getStartingBidPrice());
+        assertEquals(111.0, auction.getCurrentBidPrice());
+        assertEquals(START.plusHours(2), auction.getAuctionEndTime());
+        assertEquals(3L, auction.getSellerId());
+        assertEquals(START, auction.getStartTime());
+        assertEquals(1.5, auction.getPriceDecrement());
+        assertEquals(20.0, auction.getMinimumPrice());
+        assertEquals(30, auction.getPriceTickSeconds());
+        assertEquals(5L, auction.getCurrentBidderId());
+        assertEquals(AuctionStatus.ACTIVE, auction.getStatus());
+        assertEquals(9L, auction.getVersion());
+        assertEquals(List.of("a.jpg", "b.jpg"), auction.getImageUrls());
+    }
+}
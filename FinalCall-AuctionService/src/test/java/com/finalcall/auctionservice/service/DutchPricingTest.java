@@ -0,0 +1,103 @@
+package com.finalcall.auctionservice.service;
+
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.AuctionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DutchPricingTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Test
+    void priceIsTheStartingPriceBeforeTheStart() {
+        Auction auction = dutch(100.0, 5.0, 50.0, 60);
+
+        assertEquals(100.0, DutchPricing.priceAt(auction, START.minusMinutes(5)));
+        assertEquals(100.0, DutchPricing.priceAt(auction, START));
+    }
+
+    @Test
+    void priceDropsOnceEveryTick() {
+        Auction auction = dutch(100.0, 5.0, 50.0, 60);
+
+        assertEquals(100.0, DutchPricing.priceAt(auction, START.plusSeconds(59)));
+        assertEquals(95.0, DutchPricing.priceAt(auction, START.plusSeconds(60)));
+        assertEquals(90.0, DutchPricing.priceAt(auction, START.plusSeconds(125)));
+    }
+
+    @Test
+    void priceNeverGoesBelowTheMinimum() {
+        Auction auction = dutch(100.0, 5.0, 50.0, 60);
+
+        assertEquals(50.0, DutchPricing.priceAt(auction, START.plusHours(5)));
+    }
+
+    @Test
+    void priceIsRoundedToCents() {
+        Auction auction = dutch(100.0, 0.1, 50.0, 1);
+
+        assertEquals(99.7, DutchPricing.priceAt(auction, START.plusSeconds(3)));
+    }
+
+    @Test
+    void missingTickFallsBackToTheDefault() {
+        Auction auction = dutch(100.0, 5.0, 50.0, null);
+
+        assertEquals(DutchPricing.DEFAULT_TICK_SECONDS, DutchPricing.tickSeconds(auction));
+        assertEquals(95.0, DutchPricing.priceAt(auction, START.plusSeconds(DutchPricing.DEFAULT_TICK_SECONDS)));
+    }
+
+    @Test
+    void priceWithoutDecrementNeverDrops() {
+        Auction auction = dutch(100.0, 0.0, 50.0, 60);
+
+        assertEquals(100.0, DutchPricing.priceAt(auction, START.plusHours(5)));
+        assertNull(DutchPricing.floorTime(auction));
+    }
+
+    @Test
+    void floorTimeIsTheFirstTickAtTheMinimum() {
+        Auction auction = dutch(100.0, 5.0, 52.0, 60);
+
+        // 48 above the floor takes 9.6 decrements, so the tenth reaches it
+        LocalDateTime floor = DutchPricing.floorTime(auction);
+        assertEquals(START.plusSeconds(600), floor);
+        assertEquals(52.0, DutchPricing.priceAt(auction, floor));
+        assertTrue(DutchPricing.priceAt(auction, floor.minusSeconds(1)) > 52.0);
+    }
+
+    @Test
+    void closingTimeIsTheEarlierOfEndAndFloor() {
+        Auction auction = dutch(100.0, 5.0, 50.0, 60);
+
+        auction.setAuctionEndTime(START.plusHours(1));
+        assertEquals(START.plusSeconds(600), DutchPricing.closingTime(auction));
+
+        auction.setAuctionEndTime(START.plusMinutes(5));
+        assertEquals(START.plusMinutes(5), DutchPricing.closingTime(auction));
+    }
+
+    @Test
+    void forwardAuctionsCloseAtTheirEndTime() {
+        Auction auction = dutch(100.0, 5.0, 50.0, 60);
+        auction.setAuctionType(AuctionType.FORWARD);
+        auction.setAuctionEndTime(START.plusHours(1));
+
+        assertEquals(START.plusHours(1), DutchPricing.closingTime(auction));
+    }
+
+    private static Auction dutch(Double startingPrice, Double decrement, Double minimumPrice, Integer tickSeconds) {
+        Auction auction = new Auction();
+        auction.setAuctionType(AuctionType.DUTCH);
+        auction.setStartingBidPrice(startingPrice);
+        auction.setPriceDecrement(decrement);
+        auction.setMinimumPrice(minimumPrice);
+        auction.setPriceTickSeconds(tickSeconds);
+        auction.setStartTime(START);
+        return auction;
+    }
+}
@@ -0,0 +1,115 @@
+package com.finalcall.auctionservice.service;
+
+import com.finalcall.auctionservice.engine.LiveAuction;
+import com.finalcall.auctionservice.entity.Auction;
+import com.finalcall.auctionservice.entity.Bid;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProxyResolutionTest {
+
+    private static final double INCREMENT = 1.0;
+
+    @Test
+    void noProxiesLeavesTheAuctionAlone() {
+        LiveAuction live = live(100.0, 1L);
+
+        assertTrue(ProxyResolution.resolve(live, INCREMENT).isEmpty());
+        assertEquals(100.0, live.getAuction().getCurrentBidPrice());
+        assertEquals(1L, live.getAuction().getCurrentBidderId());
+    }
+
+    @Test
+    void loneProxyBidsOneIncrementOverTheStandingBid() {
+        LiveAuction live = live(100.0, 1L);
+        live.registerProxy(2L, 150.0);
+
+        List<Bid> bids = ProxyResolution.resolve(live, INCREMENT);
+
+        assertEquals(1, bids.size());
+        assertBid(bids.get(0), 101.0, 2L);
+        assertEquals(101.0, live.getAuction().getCurrentBidPrice());
+        assertEquals(2L, live.getAuction().getCurrentBidderId());
+        assertEquals(Map.of(2L, 150.0), live.getProxyMaximums());
+    }
+
+    @Test
+    void competingProxiesResolveInOneStep() {
+        LiveAuction live = live(100.0, 1L);
+        live.registerProxy(2L, 150.0);
+        live.registerProxy(3L, 130.0);
+
+        List<Bid> bids = ProxyResolution.resolve(live, INCREMENT);
+
+        // The runner-up is pushed to its maximum, then the winner bids one increment over it
+        assertEquals(2, bids.size());
+        assertBid(bids.get(0), 130.0, 3L);
+        assertBid(bids.get(1), 131.0, 2L);
+        assertEquals(131.0, live.getAuction().getCurrentBidPrice());
+        assertEquals(2L, live.getAuction().getCurrentBidderId());
+        assertEquals(Map.of(2L, 150.0), live.getProxyMaximums());
+    }
+
+    @Test
+    void winningPriceIsCappedAtTheWinnersMaximum() {
+        LiveAuction live = live(100.0, 1L);
+        live.registerProxy(2L, 130.5);
+        live.registerProxy(3L, 130.0);
+
+        List<Bid> bids = ProxyResolution.resolve(live, INCREMENT);
+
+        assertBid(bids.get(bids.size() - 1), 130.5, 2L);
+        assertEquals(130.5, live.getAuction().getCurrentBidPrice());
+    }
+
+    @Test
+    void earlierProxyWinsATie() {
+        LiveAuction live = live(100.0, 1L);
+        live.registerProxy(2L, 150.0);
+        live.registerProxy(3L, 150.0);
+
+        List<Bid> bids = ProxyResolution.resolve(live, INCREMENT);
+
+        assertBid(bids.get(bids.size() - 1), 150.0, 2L);
+        assertEquals(2L, live.getAuction().getCurrentBidderId());
+        assertEquals(Map.of(2L, 150.0), live.getProxyMaximums());
+    }
+
+    @Test
+    void leadingProxyDoesNotBidAgainstItself() {
+        LiveAuction live = live(101.0, 2L);
+        live.registerProxy(2L, 150.0);
+
+        assertTrue(ProxyResolution.resolve(live, INCREMENT).isEmpty());
+        assertEquals(101.0, live.getAuction().getCurrentBidPrice());
+        assertEquals(2L, live.getAuction().getCurrentBidderId());
+    }
+
+    @Test
+    void exhaustedProxyIsDropped() {
+        LiveAuction live = live(100.0, 1L);
+        live.registerProxy(3L, 90.0);
+
+        assertTrue(ProxyResolution.resolve(live, INCREMENT).isEmpty());
+        assertEquals(1L, live.getAuction().getCurrentBidderId());
+        assertTrue(live.getProxyMaximums().isEmpty());
+    }
+
+    private static LiveAuction live(double price, Long leader) {
+        Auction auction = new Auction();
+        auction.setId(7L);
+        auction.setCurrentBidPrice(price);
+        auction.setCurrentBidderId(leader);
+        return new LiveAuction(auction);
+    }
+
+    private static void assertBid(Bid bid, double amount, Long bidderId) {
+        assertEquals(amount, bid.getAmount());
+        assertEquals(bidderId, bid.getBidderId());
+        assertEquals(7L, bid.getAuctionId());
+    }
+}
@@ -0,0 +1,93 @@
+package com.finalcall.auctionservice.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    // 10 ms ticks, 8 slots, 3 levels: level 0 spans 80 ms, the top level 5.12 s
+    private final HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 8, 3, 0);
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    void firesAtTheDeadlineAndNotBefore() {
+        schedule(25, "a");
+
+        run(20);
+        assertTrue(fired.isEmpty());
+        assertEquals(1, wheel.size());
+
+        run(30);
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDeadlineFiresOnTheNextAdvance() {
+        run(1000);
+        schedule(500, "late");
+
+        run(1000);
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void firesInDeadlineOrder() {
+        schedule(50, "b");
+        schedule(30, "a");
+        schedule(700, "d");
+        schedule(90, "c");
+
+        run(1000);
+        assertEquals(List.of("a", "b", "c", "d"), fired);
+    }
+
+    @Test
+    void cascadesTimersFromCoarserLevels() {
+        schedule(650, "level2");
+        schedule(170, "level1");
+
+        run(160);
+        assertTrue(fired.isEmpty());
+        run(170);
+        assertEquals(List.of("level1"), fired);
+        run(640);
+        assertEquals(List.of("level1"), fired);
+        run(650);
+        assertEquals(List.of("level1", "level2"), fired);
+    }
+
+    @Test
+    void timerBeyondTheTopLevelFiresOnTime() {
+        schedule(10_000, "far");
+
+        run(9_990);
+        assertTrue(fired.isEmpty());
+        assertEquals(1, wheel.size());
+        run(10_000);
+        assertEquals(List.of("far"), fired);
+    }
+
+    @Test
+    void timerScheduledAfterAnAdvanceUsesTheNewTime() {
+        run(5_000);
+        schedule(5_015, "soon");
+
+        run(5_010);
+        assertTrue(fired.isEmpty());
+        run(5_020);
+        assertEquals(List.of("soon"), fired);
+    }
+
+    private void schedule(long deadlineMs, String name) {
+        wheel.schedule(deadlineMs, () -> fired.add(name));
+    }
+
+    private void run(long nowMs) {
+        wheel.advanceTo(nowMs).forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,161 @@
+package com.finalcall.auctionservice.websocket;
+
+import com.finalcall.auctionservice.dto.AuctionDTO;
+import com.finalcall.auctionservice.dto.BidDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionStreamTest {
+
+    private static final long EPOCH = 7;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Test
+    void snapshotCarriesEpochSequenceStateAndHistory() {
+        BidDTO earlier = bid(1L, 100.0, 3L);
+        AuctionStream stream = stream(8, auction(100.0, 1L), List.of(earlier));
+
+        Map<String, Object> snapshot = stream.snapshot();
+
+        assertEquals(AuctionStream.SNAPSHOT, snapshot.get("type"));
+        assertEquals(EPOCH, snapshot.get("epoch"));
+        assertEquals(0L, snapshot.get("seq"));
+        assertEquals(100.0, ((AuctionDTO) snapshot.get("auction")).getCurrentBidPrice());
+        assertEquals(List.of(earlier), snapshot.get("biddingHistory"));
+    }
+
+    @Test
+    void updateCarriesOnlyWhatChanged() {
+        AuctionStream stream = stream(8, auction(100.0, 1L), List.of());
+
+        AuctionStream.Update update = stream.update(auction(110.0, 2L), List.of(bid(2L, 110.0, 4L)));
+
+        assertEquals(1, update.getSeq());
+        Map<String, Object> frame = update.getFrame();
+        assertEquals(AuctionStream.UPDATE, frame.get("type"));
+        assertEquals(110.0, frame.get("currentBidPrice"));
+        assertEquals(2L, frame.get("currentBidderId"));
+        assertFalse(frame.containsKey("status"));
+        assertFalse(frame.containsKey("auctionEndTime"));
+        assertEquals(1, frame.get("bidCount"));
+        assertFalse(frame.containsKey("bids"));
+        assertEquals(1, ((List<?>) update.getFrameWithBids().get("bids")).size());
+        assertEquals(1, stream.getSequence());
+    }
+
+    @Test
+    void updateWithoutVisibleChangeIsSkipped() {
+        AuctionStream stream = stream(8, auction(100.0, 1L), List.of());
+
+        assertNull(stream.update(auction(100.0, 1L), List.of()));
+        assertEquals(0, stream.getSequence());
+    }
+
+    @Test
+    void bidsCoveredByTheSnapshotAreSkipped() {
+        AuctionStream stream = stream(8, auction(110.0, 2L), List.of(bid(2L, 110.0, 4L)));
+
+        AuctionStream.Update update = stream.update(auction(120.0, 3L),
+                List.of(bid(2L, 110.0, 4L), bid(3L, 120.0, 5L)));
+
+        List<?> bids = (List<?>) update.getFrameWithBids().get("bids");
+        assertEquals(1, bids.size());
+        assertEquals(120.0, ((BidDTO) bids.get(0)).getAmount());
+        assertEquals(1, update.getFrame().get("bidCount"));
+    }
+
+    @Test
+    void bidsOfOneWriteAreAllKeptEvenWithEqualTimestamps() {
+        AuctionStream stream = stream(8, auction(100.0, 1L), List.of(bid(1L, 100.0, 3L)));
+
+        // A bid and the proxy bid it triggered share the write's version and often its timestamp
+        AuctionStream.Update update = stream.update(auction(111.0, 2L),
+                List.of(bid(3L, 110.0, 4L), bid(2L, 111.0, 4L)));
+
+        assertEquals(2, update.getFrame().get("bidCount"));
+        assertEquals(111.0, ((BidDTO) update.getFrame().get("lastBid")).getAmount());
+        assertNull(stream.update(auction(111.0, 2L), List.of(bid(2L, 111.0, 4L))));
+    }
+
+    @Test
+    void replayReturnsTheFramesMissedSinceAPosition() {
+        AuctionStream stream = stream(8, auction(100.0, 1L), List.of());
+        List<WebSocketMessage<?>> frames = updates(stream, 3);
+
+        assertEquals(frames.subList(1, 3), stream.replaySince(EPOCH, 1, FrameFormat.JSON));
+        assertEquals(List.of(), stream.replaySince(EPOCH, 3, FrameFormat.JSON));
+    }
+
+    @Test
+    void replayRequiresASnapshotForAnotherEpochOrAnUnknownPosition() {
+        AuctionStream stream = stream(8, auction(100.0, 1L), List.of());
+        updates(stream, 3);
+
+        assertNull(stream.replaySince(EPOCH + 1, 1, FrameFormat.JSON));
+        assertNull(stream.replaySince(EPOCH, 4, FrameFormat.JSON));
+        assertNull(stream.replaySince(EPOCH, -1, FrameFormat.JSON));
+    }
+
+    @Test
+    void replayRequiresASnapshotOnceFramesAreOverwritten() {
+        AuctionStream stream = stream(2, auction(100.0, 1L), List.of());
+        List<WebSocketMessage<?>> frames = updates(stream, 4);
+
+        assertNull(stream.replaySince(EPOCH, 1, FrameFormat.JSON));
+        assertEquals(frames.subList(2, 4), stream.replaySince(EPOCH, 2, FrameFormat.JSON));
+    }
+
+    @Test
+    void replayRequiresASnapshotIfAFrameCouldNotBeEncoded() {
+        AuctionStream stream = stream(8, auction(100.0, 1L), List.of());
+        updates(stream, 2);
+        AuctionStream.Update update = stream.update(auction(200.0, 9L), List.of());
+        stream.record(update.getSeq(), FrameFormat.JSON, null);
+
+        assertNull(stream.replaySince(EPOCH, 1, FrameFormat.JSON));
+        // Formats are recorded separately
+        assertNull(stream.replaySince(EPOCH, 1, FrameFormat.JSON_WITH_BIDS));
+    }
+
+    private static AuctionStream stream(int replayCapacity, AuctionDTO auction, List<BidDTO> history) {
+        return new AuctionStream(42L, EPOCH, replayCapacity, auction, history);
+    }
+
+    /**
+     * Applies and records the given number of price changes as JSON frames.
+     */
+    private static List<WebSocketMessage<?>> updates(AuctionStream stream, int count) {
+        List<WebSocketMessage<?>> frames = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            AuctionStream.Update update = stream.update(auction(100.0 + i, 1L), List.of());
+            TextMessage message = new TextMessage("frame " + update.getSeq());
+            stream.record(update.getSeq(), FrameFormat.JSON, message);
+            frames.add(message);
+        }
+        return frames;
+    }
+
+    private static AuctionDTO auction(double price, Long bidderId) {
+        AuctionDTO auction = new AuctionDTO();
+        auction.setId(42L);
+        auction.setCurrentBidPrice(price);
+        auction.setCurrentBidderId(bidderId);
+        auction.setAuctionEndTime(NOW.plusHours(1));
+        auction.setStatus("ACTIVE");
+        return auction;
+    }
+
+    private static BidDTO bid(Long bidderId, double amount, long auctionVersion) {
+        BidDTO bid = new BidDTO(null, amount, bidderId, "user" + bidderId, NOW);
+        bid.setAuctionVersion(auctionVersion);
+        return bid;
+    }
+}
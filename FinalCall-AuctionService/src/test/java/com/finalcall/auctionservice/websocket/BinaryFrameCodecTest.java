@@ -0,0 +1,122 @@
+package com.finalcall.auctionservice.websocket;
+
+import com.finalcall.auctionservice.dto.AuctionDTO;
+import com.finalcall.auctionservice.dto.BidDTO;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryFrameCodecTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Test
+    void encodesAPriceChangeWithTheLatestBid() {
+        AuctionStream stream = stream();
+        AuctionStream.Update update = stream.update(auction(110.25, 2L, NOW.plusHours(1), "ACTIVE"),
+                List.of(bid(3L, 105.0, 1), bid(2L, 110.25, 2)));
+
+        ByteBuffer buffer = encode(update.getFrame());
+
+        assertEquals(BinaryFrameCodec.UPDATE, buffer.get());
+        assertEquals(BinaryFrameCodec.PRICE_CHANGED, buffer.get());
+        assertEquals(42L, buffer.getLong());
+        assertEquals(1L, buffer.getLong());
+        assertEquals(11025L, buffer.getLong());
+        assertEquals(2L, buffer.getLong());
+        assertEquals(2, buffer.getInt());
+        assertEquals(1, buffer.getShort());
+        assertBid(buffer, 11025L, 2L, NOW.plusSeconds(2));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void listsEveryNewBidForSubscribersOfTheFullHistory() {
+        AuctionStream stream = stream();
+        AuctionStream.Update update = stream.update(auction(110.0, 2L, NOW.plusHours(1), "ACTIVE"),
+                List.of(bid(3L, 105.0, 1), bid(2L, 110.0, 2)));
+
+        ByteBuffer buffer = encode(update.getFrameWithBids());
+
+        buffer.position(1 + 1 + 8 + 8 + 16);
+        assertEquals(2, buffer.getInt());
+        assertEquals(2, buffer.getShort());
+        assertBid(buffer, 10500L, 3L, NOW.plusSeconds(1));
+        assertBid(buffer, 11000L, 2L, NOW.plusSeconds(2));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void encodesEndTimeAndStatusChanges() {
+        AuctionStream stream = stream();
+        AuctionStream.Update update = stream.update(auction(100.0, 1L, NOW.plusHours(2), "ENDED"), List.of());
+
+        ByteBuffer buffer = encode(update.getFrame());
+
+        assertEquals(BinaryFrameCodec.UPDATE, buffer.get());
+        assertEquals(BinaryFrameCodec.END_TIME_CHANGED | BinaryFrameCodec.STATUS_CHANGED, buffer.get());
+        buffer.position(1 + 1 + 8 + 8);
+        assertEquals(epochMillis(NOW.plusHours(2)), buffer.getLong());
+        assertEquals(2, buffer.get());
+        assertEquals(0, buffer.getInt());
+        assertEquals(0, buffer.getShort());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void encodesAbsentValuesAsMinusOne() {
+        AuctionStream stream = stream();
+        AuctionStream.Update update = stream.update(auction(100.0, null, null, "ACTIVE"), List.of());
+
+        ByteBuffer buffer = encode(update.getFrame());
+
+        assertEquals(BinaryFrameCodec.PRICE_CHANGED | BinaryFrameCodec.END_TIME_CHANGED, buffer.get(1));
+        buffer.position(1 + 1 + 8 + 8);
+        assertEquals(10000L, buffer.getLong());
+        assertEquals(-1L, buffer.getLong());
+        assertEquals(-1L, buffer.getLong());
+    }
+
+    private static AuctionStream stream() {
+        return new AuctionStream(42L, 7, 8, auction(100.0, 1L, NOW.plusHours(1), "ACTIVE"), List.of());
+    }
+
+    private static ByteBuffer encode(Map<String, Object> frame) {
+        return BinaryFrameCodec.encodeUpdate(frame).getPayload().duplicate();
+    }
+
+    private static void assertBid(ByteBuffer buffer, long amountCents, long bidderId, LocalDateTime timestamp) {
+        assertEquals(amountCents, buffer.getLong());
+        assertEquals(bidderId, buffer.getLong());
+        assertEquals(epochMillis(timestamp), buffer.getLong());
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static AuctionDTO auction(double price, Long bidderId, LocalDateTime endTime, String status) {
+        AuctionDTO auction = new AuctionDTO();
+        auction.setId(42L);
+        auction.setCurrentBidPrice(price);
+        auction.setCurrentBidderId(bidderId);
+        auction.setAuctionEndTime(endTime);
+        auction.setStatus(status);
+        return auction;
+    }
+
+    /**
+     * Creates a bid accepted by the given write, timestamped that many seconds after NOW.
+     */
+    private static BidDTO bid(Long bidderId, double amount, long auctionVersion) {
+        BidDTO bid = new BidDTO(null, amount, bidderId, "user" + bidderId, NOW.plusSeconds(auctionVersion));
+        bid.setAuctionVersion(auctionVersion);
+        return bid;
+    }
+}
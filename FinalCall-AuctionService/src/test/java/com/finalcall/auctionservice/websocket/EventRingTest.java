@@ -0,0 +1,104 @@
+package com.finalcall.auctionservice.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventRingTest {
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertEquals(8, new EventRing<Integer>(5).capacity());
+        assertEquals(8, new EventRing<Integer>(8).capacity());
+        assertEquals(4096, new EventRing<Integer>(4096).capacity());
+    }
+
+    @Test
+    void offerFailsWhenFullAndSucceedsAfterDraining() {
+        EventRing<Integer> ring = new EventRing<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+        assertFalse(ring.offer(4));
+        assertEquals(4, ring.size());
+
+        List<Integer> batch = new ArrayList<>();
+        assertEquals(4, ring.drainTo(batch, 10));
+        assertEquals(List.of(0, 1, 2, 3), batch);
+        assertEquals(0, ring.size());
+        assertTrue(ring.offer(4));
+    }
+
+    @Test
+    void drainStopsAtTheBatchLimit() {
+        EventRing<Integer> ring = new EventRing<>(8);
+        for (int i = 0; i < 5; i++) {
+            ring.offer(i);
+        }
+
+        List<Integer> batch = new ArrayList<>();
+        assertEquals(3, ring.drainTo(batch, 3));
+        assertEquals(List.of(0, 1, 2), batch);
+        assertEquals(2, ring.drainTo(batch, 3));
+        assertEquals(List.of(0, 1, 2, 3, 4), batch);
+        assertEquals(0, ring.drainTo(batch, 3));
+    }
+
+    @Test
+    void deliversEveryItemOfConcurrentProducersInProducerOrder() throws InterruptedException {
+        int producers = 4;
+        // Enough to wrap the ring many times over
+        int perProducer = 2_000;
+        EventRing<long[]> ring = new EventRing<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    long[] item = {producer, i};
+                    while (!ring.offer(item)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            // A failed assertion must not leave producers spinning
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        long[] next = new long[producers];
+        int received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        List<long[]> batch = new ArrayList<>();
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            if (ring.drainTo(batch, 256) == 0) {
+                // Let the producers run when cores are scarce
+                Thread.yield();
+            }
+            for (long[] item : batch) {
+                assertEquals(next[(int) item[0]]++, item[1], "order of producer " + item[0]);
+            }
+            received += batch.size();
+            batch.clear();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, received);
+        assertEquals(0, ring.size());
+    }
+}
@@ -0,0 +1,86 @@
+package com.finalcall.auctionservice.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    void addsAndRemovesKeys() {
+        LongHashSet set = new LongHashSet();
+
+        assertTrue(set.add(42));
+        assertFalse(set.add(42));
+        assertTrue(set.contains(42));
+        assertEquals(1, set.size());
+
+        assertTrue(set.remove(42));
+        assertFalse(set.remove(42));
+        assertFalse(set.contains(42));
+        assertEquals(0, set.size());
+    }
+
+    @Test
+    void zeroIsAnOrdinaryKey() {
+        LongHashSet set = new LongHashSet();
+
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+        assertTrue(set.remove(0));
+        assertFalse(set.contains(0));
+    }
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        LongHashSet set = new LongHashSet(2);
+        for (long key = 1; key <= 1000; key++) {
+            assertTrue(set.add(key));
+        }
+
+        assertEquals(1000, set.size());
+        for (long key = 1; key <= 1000; key++) {
+            assertTrue(set.contains(key));
+        }
+        assertFalse(set.contains(1001));
+    }
+
+    @Test
+    void removalKeepsTheRestOfTheProbeRunReachable() {
+        LongHashSet set = new LongHashSet(4);
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(16);
+        for (int i = 0; i < 20_000; i++) {
+            // A small key range forces collisions and long probe runs
+            long key = random.nextInt(64) - 8;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(key), set.add(key));
+            } else {
+                assertEquals(expected.remove(key), set.remove(key));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (long key = -8; key < 56; key++) {
+            assertEquals(expected.contains(key), set.contains(key), "key " + key);
+        }
+    }
+
+    @Test
+    void forEachVisitsEveryKeyOnce() {
+        LongHashSet set = new LongHashSet();
+        Set<Long> keys = Set.of(0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 32);
+        keys.forEach(set::add);
+
+        Set<Long> visited = new HashSet<>();
+        set.forEach(key -> assertTrue(visited.add(key)));
+
+        assertEquals(keys, visited);
+    }
+}
@@ -33,6 +33,7 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/register").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/users/**").permitAll()  // Allow public access to user profiles
+                .requestMatchers(HttpMethod.POST, "/api/users/batch").permitAll()  // Public profiles, looked up in bulk
                 .requestMatchers(HttpMethod.PUT, "/api/users/**").authenticated()  // Require auth for updates
                 .requestMatchers("/oauth2/**").permitAll()
                 .anyRequest().authenticated()
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -18,6 +19,8 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "http://localhost:3000")
 public class UserController {
 
+    static final int MAX_BATCH_SIZE = 1000;
+
     @Autowired
     private UserService userService;
 
@@ -67,25 +70,44 @@ public class UserController {
     public ResponseEntity<?> getUserById(@PathVariable("id") Long userId) {
         Optional<User> userOpt = userService.findById(userId);
         if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            // Only return public information for non-authenticated requests
-            UserDTO userDTO = new UserDTO(
-                user.getId(),
-                user.getUsername(),
-                null,  // Don't include email
-                user.getFirstName(),
-                user.getLastName(),
-                null,  // Don't include private address details
-                null,
-                user.getCountry(),
-                null,
-                user.getIsSeller()
-            );
-            return ResponseEntity.ok(userDTO);
+            return ResponseEntity.ok(toPublicDTO(userOpt.get()));
         }
         return ResponseEntity.notFound().build();
     }
 
+    /**
+     * Endpoint to get the public details of many users in one call.
+     *
+     * @param userIds The user IDs; at most {@value #MAX_BATCH_SIZE}.
+     * @return Details of the users found. Unknown IDs are omitted.
+     */
+    @PostMapping("/users/batch")
+    public ResponseEntity<?> getUsersByIds(@RequestBody Set<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().body("At most " + MAX_BATCH_SIZE + " users per request.");
+        }
+        List<UserDTO> userDTOs = userService.findAllById(userIds).stream()
+                .map(this::toPublicDTO)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(userDTOs);
+    }
+
+    // Only public information, as these endpoints don't require authentication
+    private UserDTO toPublicDTO(User user) {
+        return new UserDTO(
+            user.getId(),
+            user.getUsername(),
+            null,  // Don't include email
+            user.getFirstName(),
+            user.getLastName(),
+            null,  // Don't include private address details
+            null,
+            user.getCountry(),
+            null,
+            user.getIsSeller()
+        );
+    }
+
     /**
      * Endpoint to update user's address and other information.
      *
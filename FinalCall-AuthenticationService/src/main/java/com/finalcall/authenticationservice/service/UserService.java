@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,6 +59,16 @@ public class UserService {
 	        return userRepository.findById(id);
 	    }
 
+	    /**
+	     * Finds the users with the given IDs in one query. Unknown IDs are skipped.
+	     *
+	     * @param ids The user IDs.
+	     * @return The users found, in no particular order.
+	     */
+	    public List<User> findAllById(Collection<Long> ids) {
+	        return userRepository.findAllById(ids);
+	    }
+
 	    /**
 	     * Authenticates a user with the provided username and password.
 	     *
@@ -8,12 +8,18 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Feign client to communicate with the AuctionService.
  */
 @FeignClient(name = "auction-service", url = "${auction.service.url}", configuration = FeignConfig.class)
 public interface AuctionServiceClient {
 
+    /** Largest batch AuctionService accepts. */
+    int MAX_BATCH_SIZE = 1000;
+
     /**
      * Create a new auction.
      *
@@ -31,4 +37,13 @@ public interface AuctionServiceClient {
      */
     @GetMapping("/api/auctions/item/{itemId}")
     ResponseEntity<AuctionDTO> getAuctionByItemId(@PathVariable("itemId") Long itemId);
+
+    /**
+     * Get the auctions of many items in one call; items without an auction are omitted.
+     *
+     * @param itemIds Distinct item IDs, at most {@value #MAX_BATCH_SIZE}.
+     * @return The auctions found.
+     */
+    @PostMapping("/api/auctions/items/batch")
+    List<AuctionDTO> getAuctionsByItemIds(@RequestBody Collection<Long> itemIds);
 }
@@ -7,6 +7,11 @@ import com.finalcall.catalogueservice.dto.UserDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Feign client to communicate with the AuthenticationService.
@@ -14,6 +19,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 @FeignClient(name = "authentication-service", url = "${authentication.service.url}")
 public interface AuthenticationServiceClient {
 
+    /** Largest batch AuthenticationService accepts. */
+    int MAX_BATCH_SIZE = 1000;
+
     @GetMapping("/api/users/{userId}")
     UserDTO getUserById(@PathVariable("userId") Long userId);
-}
\ No newline at end of file
+
+    /**
+     * Get public details of many users in one call; unknown IDs are omitted.
+     *
+     * @param userIds Distinct user IDs, at most {@value #MAX_BATCH_SIZE}.
+     * @return The users found.
+     */
+    @PostMapping("/api/users/batch")
+    List<UserDTO> getUsersByIds(@RequestBody Collection<Long> userIds);
+}
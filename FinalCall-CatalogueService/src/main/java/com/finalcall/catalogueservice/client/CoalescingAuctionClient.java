@@ -0,0 +1,45 @@
+// src/main/java/com/finalcall/catalogueservice/client/CoalescingAuctionClient.java
+
+package com.finalcall.catalogueservice.client;
+
+import com.finalcall.catalogueservice.dto.AuctionDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link AuctionServiceClient} reads with concurrent identical calls
+ * coalesced into one request; see {@link SingleFlight}.
+ */
+@Component
+public class CoalescingAuctionClient {
+
+    private final AuctionServiceClient auctionServiceClient;
+    private final SingleFlight<Long, ResponseEntity<AuctionDTO>> getAuctionByItemId;
+
+    public CoalescingAuctionClient(AuctionServiceClient auctionServiceClient,
+                                   @Value("${coalescing.auction.get-auction-by-item-id.enabled:true}") boolean getAuctionByItemIdEnabled) {
+        this.auctionServiceClient = auctionServiceClient;
+        this.getAuctionByItemId = new SingleFlight<>("getAuctionByItemId", getAuctionByItemIdEnabled);
+    }
+
+    /**
+     * Get auction details by item ID, sharing the request with concurrent callers for the same item.
+     *
+     * @param itemId ID of the item.
+     * @return ResponseEntity containing AuctionDTO; shared, so do not modify it.
+     */
+    public ResponseEntity<AuctionDTO> getAuctionByItemId(Long itemId) {
+        return getAuctionByItemId.execute(itemId, () -> auctionServiceClient.getAuctionByItemId(itemId));
+    }
+
+    /**
+     * Report call and collapse counts per method.
+     */
+    public List<Map<String, Object>> getStats() {
+        return List.of(getAuctionByItemId.getStats());
+    }
+}
@@ -0,0 +1,93 @@
+// src/main/java/com/finalcall/catalogueservice/client/SingleFlight.java
+
+package com.finalcall.catalogueservice.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical read calls: the first caller for a key makes
+ * the call, and callers that arrive while it is in flight wait for and share
+ * its result or exception. Nothing is cached once the call completes.
+ * <p>
+ * Shared results must be treated as read-only. Mirrors AuctionService's
+ * canonical copy; change both together.
+ *
+ * @param <K> The call's key, e.g. the requested ID.
+ * @param <V> The call's result.
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final boolean enabled;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    /**
+     * @param name    The name reported in the stats.
+     * @param enabled If false, every caller makes its own call.
+     */
+    public SingleFlight(String name, boolean enabled) {
+        this.name = name;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Makes the call, or joins the one in flight for the same key.
+     *
+     * @param key  The call's key.
+     * @param call The call to make if none is in flight.
+     * @return The call's result.
+     */
+    public V execute(K key, Supplier<V> call) {
+        calls.increment();
+        if (!enabled) {
+            return call.get();
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            collapsed.increment();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Reports how many calls were made and how many of them joined another.
+     */
+    public Map<String, Object> getStats() {
+        long total = calls.sum();
+        long joined = collapsed.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        stats.put("enabled", enabled);
+        stats.put("calls", total);
+        stats.put("collapsed", joined);
+        stats.put("collapseRatio", total > 0 ? (double) joined / total : 0.0);
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+}
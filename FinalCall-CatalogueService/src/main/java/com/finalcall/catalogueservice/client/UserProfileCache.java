@@ -0,0 +1,158 @@
+// src/main/java/com/finalcall/catalogueservice/client/UserProfileCache.java
+
+package com.finalcall.catalogueservice.client;
+
+import com.finalcall.catalogueservice.dto.UserDTO;
+import com.finalcall.catalogueservice.exception.UserNotFoundException;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Near cache of seller profiles in front of {@link AuthenticationServiceClient}.
+ * <p>
+ * The cache is bounded in size with Caffeine's W-TinyLFU eviction. Entries
+ * live for {@code ttl-ms}; after {@code refresh-ms} the next read returns the
+ * cached profile at once and reloads it in the background. If
+ * AuthenticationService is slow or down, readers keep getting the stale
+ * profile until it expires. Users that do not exist are cached as absent for
+ * the shorter {@code negative-ttl-ms}. Lookups that fail are not cached.
+ * <p>
+ * Mirrors AuctionService's canonical copy, apart from the not-found
+ * exception; change both together.
+ */
+@Component
+public class UserProfileCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserProfileCache.class);
+
+    private final AuthenticationServiceClient authenticationServiceClient;
+    private final LoadingCache<Long, Optional<UserDTO>> cache;
+
+    public UserProfileCache(AuthenticationServiceClient authenticationServiceClient,
+                            @Value("${user-cache.max-size:10000}") long maxSize,
+                            @Value("${user-cache.ttl-ms:3600000}") long ttlMillis,
+                            @Value("${user-cache.refresh-ms:300000}") long refreshMillis,
+                            @Value("${user-cache.negative-ttl-ms:60000}") long negativeTtlMillis) {
+        this.authenticationServiceClient = authenticationServiceClient;
+        long ttlNanos = Duration.ofMillis(ttlMillis).toNanos();
+        long negativeTtlNanos = Duration.ofMillis(negativeTtlMillis).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<Long, Optional<UserDTO>>() {
+                    @Override
+                    public long expireAfterCreate(Long userId, Optional<UserDTO> user, long currentTime) {
+                        return user.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long userId, Optional<UserDTO> user, long currentTime, long currentDuration) {
+                        return expireAfterCreate(userId, user, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long userId, Optional<UserDTO> user, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .refreshAfterWrite(Duration.ofMillis(refreshMillis))
+                .recordStats()
+                .build(new CacheLoader<Long, Optional<UserDTO>>() {
+                    @Override
+                    public Optional<UserDTO> load(Long userId) {
+                        try {
+                            return Optional.ofNullable(authenticationServiceClient.getUserById(userId));
+                        } catch (UserNotFoundException e) {
+                            return Optional.empty();
+                        }
+                    }
+
+                    @Override
+                    public Map<Long, Optional<UserDTO>> loadAll(Set<? extends Long> userIds) {
+                        return fetchAll(userIds);
+                    }
+                });
+    }
+
+    /**
+     * Looks up one user.
+     *
+     * @param userId The ID of the user.
+     * @return The user, or empty if unknown or AuthenticationService could not be reached.
+     */
+    public Optional<UserDTO> getUser(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        try {
+            return cache.get(userId);
+        } catch (RuntimeException e) {
+            logger.warn("Could not fetch user {}: {}", userId, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Looks up many users, fetching all misses with batch calls.
+     *
+     * @param userIds The IDs of the users; duplicates and nulls are ignored.
+     * @return The users found, by ID. If AuthenticationService could not be
+     *         reached, only the users already cached.
+     */
+    public Map<Long, UserDTO> getUsers(Collection<Long> userIds) {
+        Set<Long> ids = new HashSet<>(userIds);
+        ids.remove(null);
+        Map<Long, Optional<UserDTO>> found;
+        try {
+            found = cache.getAll(ids);
+        } catch (RuntimeException e) {
+            logger.warn("Could not fetch {} users: {}", ids.size(), e.toString());
+            found = cache.getAllPresent(ids);
+        }
+        Map<Long, UserDTO> users = new HashMap<>();
+        found.forEach((userId, user) -> user.ifPresent(dto -> users.put(userId, dto)));
+        return users;
+    }
+
+    /**
+     * Reports hit, miss, load and eviction counts since startup.
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("size", cache.estimatedSize());
+        report.put("hitCount", stats.hitCount());
+        report.put("missCount", stats.missCount());
+        report.put("hitRate", stats.hitRate());
+        report.put("loadSuccessCount", stats.loadSuccessCount());
+        report.put("loadFailureCount", stats.loadFailureCount());
+        report.put("averageLoadPenaltyMs", stats.averageLoadPenalty() / 1_000_000.0);
+        report.put("evictionCount", stats.evictionCount());
+        return report;
+    }
+
+    private Map<Long, Optional<UserDTO>> fetchAll(Set<? extends Long> userIds) {
+        Map<Long, Optional<UserDTO>> users = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += AuthenticationServiceClient.MAX_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + AuthenticationServiceClient.MAX_BATCH_SIZE, ids.size()));
+            for (UserDTO user : authenticationServiceClient.getUsersByIds(batch)) {
+                users.put(user.getId(), Optional.of(user));
+            }
+        }
+        // Users missing from the response do not exist
+        for (Long userId : ids) {
+            users.putIfAbsent(userId, Optional.empty());
+        }
+        return users;
+    }
+}
@@ -25,6 +25,8 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .cors(Customizer.withDefaults())
             .authorizeHttpRequests(auth -> auth
+                // Operational metrics, matched before the public reads they fall under
+                .requestMatchers(HttpMethod.GET, "/api/items/user-cache-stats", "/api/items/coalescing-stats").authenticated()
                 // Public read endpoints
                 .requestMatchers(HttpMethod.GET, "/api/items/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/items/user/**").permitAll()
@@ -47,6 +49,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList(allowedOrigins)); // e.g., "http://localhost:3000"
         configuration.setAllowedMethods(Arrays.asList("GET","POST","PUT","DELETE","OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("Link", "Deprecation")); // Paging hints on the legacy item listing
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L); // Optional: cache pre-flight response for 1 hour
 
@@ -2,32 +2,59 @@
 
 package com.finalcall.catalogueservice.controller;
 
+import com.finalcall.catalogueservice.client.CoalescingAuctionClient;
+import com.finalcall.catalogueservice.client.UserProfileCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.finalcall.catalogueservice.dto.ItemDTO;
+import com.finalcall.catalogueservice.dto.ItemPage;
 import com.finalcall.catalogueservice.dto.ItemRequest;
 import com.finalcall.catalogueservice.service.ItemService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 // import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/items")
 @CrossOrigin(origins = "*")
 public class ItemController {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+    private static final String NDJSON = "application/x-ndjson";
+
     private static final Logger logger = LoggerFactory.getLogger(ItemController.class);
 
     @Autowired
     private ItemService itemService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${item.stream.chunk-size:500}")
+    private int streamChunkSize;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @Autowired
+    private CoalescingAuctionClient coalescingAuctionClient;
+
     /**
      * Create a new item and corresponding auction entry.
      *
@@ -102,7 +129,9 @@ public class ItemController {
     }
 
     /**
-     * Retrieve all items with their auction details and seller's name.
+     * Retrieve a user's items with their auction details and seller's name.
+     * Fails with 500 if the auction details could not be fetched, rather
+     * than returning an empty list.
      *
      * @return ResponseEntity with list of items or error message.
      */
@@ -117,15 +146,106 @@ public class ItemController {
         }
     }
 
-    // Update the service method to not require authentication
+    /**
+     * Retrieve items with their auction details and seller's name.
+     * <p>
+     * With {@code limit} or {@code cursor}, returns one page as an ItemPage;
+     * pass its {@code nextCursor} as {@code cursor} for the next page. Without
+     * either, returns the first {@value #DEFAULT_PAGE_SIZE} items as a plain
+     * array, as older clients expect; that form is deprecated, and its
+     * {@code Link} header points to the next page.
+     *
+     * @param limit  Page size, 1 to {@value #MAX_PAGE_SIZE}; defaults to {@value #DEFAULT_PAGE_SIZE}.
+     * @param cursor The nextCursor of the previous page.
+     * @return ResponseEntity with the items or error message.
+     */
     @GetMapping
-    public ResponseEntity<?> getAllItems() {
+    public ResponseEntity<?> getAllItems(@RequestParam(required = false) Integer limit,
+                                         @RequestParam(required = false) String cursor) {
+        if (limit == null && cursor == null) {
+            try {
+                ItemPage page = itemService.getItemsPage(null, DEFAULT_PAGE_SIZE);
+                ResponseEntity.BodyBuilder response = ResponseEntity.ok().header("Deprecation", "true");
+                if (page.getNextCursor() != null) {
+                    response.header(HttpHeaders.LINK, "</api/items?limit=" + DEFAULT_PAGE_SIZE + "&cursor="
+                            + URLEncoder.encode(page.getNextCursor(), StandardCharsets.UTF_8) + ">; rel=\"next\"");
+                }
+                return response.body(page.getItems());
+            } catch (Exception e) {
+                logger.error("Error fetching all items", e);
+                return ResponseEntity.status(500).body("Error fetching items.");
+            }
+        }
+
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body("limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
         try {
-            List<ItemDTO> itemDTOs = itemService.getAllItemsWithDetails();
-            return ResponseEntity.ok(itemDTOs);
+            return ResponseEntity.ok(itemService.getItemsPage(cursor, pageSize));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
-            logger.error("Error fetching all items", e);
+            logger.error("Error fetching items page", e);
             return ResponseEntity.status(500).body("Error fetching items.");
         }
     }
+
+    /**
+     * Stream every item with its auction details and seller's name as
+     * newline-delimited JSON. Items are read and enriched one chunk at a
+     * time and written as they are ready, so memory use does not grow with
+     * the catalogue. The status is sent before the first chunk is read, so a
+     * failure part way through ends the stream with an {@code {"error": ...}}
+     * line and an aborted response instead of a clean end.
+     *
+     * @return ResponseEntity streaming one ItemDTO per line.
+     */
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamItems() {
+        StreamingResponseBody body = outputStream -> {
+            String cursor = null;
+            int written = 0;
+            try {
+                do {
+                    ItemPage page = itemService.getItemsPage(cursor, streamChunkSize);
+                    for (ItemDTO itemDTO : page.getItems()) {
+                        outputStream.write(objectMapper.writeValueAsBytes(itemDTO));
+                        outputStream.write('\n');
+                        written++;
+                    }
+                    outputStream.flush();
+                    cursor = page.getNextCursor();
+                } while (cursor != null);
+            } catch (RuntimeException e) {
+                logger.error("Item stream failed after {} items", written, e);
+                outputStream.write(objectMapper.writeValueAsBytes(Map.of("error", "Error fetching items.")));
+                outputStream.write('\n');
+                outputStream.flush();
+                // Fail the response too, so clients that ignore the record still see a truncated body
+                throw e;
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    /**
+     * Report hit and miss counts of the seller profile cache.
+     *
+     * @return ResponseEntity with the cache statistics.
+     */
+    @GetMapping("/user-cache-stats")
+    public ResponseEntity<?> getUserCacheStats() {
+        return ResponseEntity.ok(userProfileCache.getStats());
+    }
+
+    /**
+     * Report how many AuctionService calls were coalesced with a concurrent identical call.
+     *
+     * @return ResponseEntity with per-method call and collapse counts.
+     */
+    @GetMapping("/coalescing-stats")
+    public ResponseEntity<?> getCoalescingStats() {
+        return ResponseEntity.ok(coalescingAuctionClient.getStats());
+    }
 }
@@ -15,6 +15,8 @@ public class AuctionDTO {
     private LocalDateTime startTime;
     private Double priceDecrement; // For Dutch auctions
     private Double minimumPrice;   // For Dutch auctions
+    private Integer priceTickSeconds;      // For Dutch auctions
+    private LocalDateTime priceFloorTime;  // For Dutch auctions
     private String status;
 
     // Constructors
@@ -62,6 +64,12 @@ public class AuctionDTO {
     
     public Double getMinimumPrice() { return minimumPrice; }
     public void setMinimumPrice(Double minimumPrice) { this.minimumPrice = minimumPrice; }
+
+    public Integer getPriceTickSeconds() { return priceTickSeconds; }
+    public void setPriceTickSeconds(Integer priceTickSeconds) { this.priceTickSeconds = priceTickSeconds; }
+
+    public LocalDateTime getPriceFloorTime() { return priceFloorTime; }
+    public void setPriceFloorTime(LocalDateTime priceFloorTime) { this.priceFloorTime = priceFloorTime; }
     
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
@@ -0,0 +1,29 @@
+// src/main/java/com/finalcall/catalogueservice/dto/ItemPage.java
+
+package com.finalcall.catalogueservice.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated item listing. Pass {@code nextCursor} back
+ * as {@code cursor} to get the following page; it is null on the last page.
+ */
+public class ItemPage {
+    private List<ItemDTO> items;
+    private String nextCursor;
+
+    public ItemPage() {}
+
+    public ItemPage(List<ItemDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+
+    public List<ItemDTO> getItems() { return items; }
+    public void setItems(List<ItemDTO> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -3,6 +3,7 @@
 package com.finalcall.catalogueservice.repository;
 
 import com.finalcall.catalogueservice.entity.Item;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
@@ -11,4 +12,10 @@ import java.util.List;
 public interface ItemRepository extends JpaRepository<Item, Long> {
     boolean existsByRandomId(String randomId);
     List<Item> findByListedBy(Long listedBy);
+
+    /**
+     * Keyset pagination: the next items after the given ID, in ID order.
+     * Served by the primary key, so every page costs the same however deep it is.
+     */
+    List<Item> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -3,20 +3,25 @@
 package com.finalcall.catalogueservice.service;
 
 import com.finalcall.catalogueservice.client.AuctionServiceClient;
-import com.finalcall.catalogueservice.client.AuthenticationServiceClient;
+import com.finalcall.catalogueservice.client.CoalescingAuctionClient;
+import com.finalcall.catalogueservice.client.UserProfileCache;
 import com.finalcall.catalogueservice.dto.AuctionDTO;
 import com.finalcall.catalogueservice.dto.ItemDTO;
+import com.finalcall.catalogueservice.dto.ItemPage;
 import com.finalcall.catalogueservice.dto.ItemRequest;
 import com.finalcall.catalogueservice.dto.UserDTO;
 import com.finalcall.catalogueservice.entity.Item;
-import com.finalcall.catalogueservice.exception.UserNotFoundException;
 import com.finalcall.catalogueservice.repository.ItemRepository;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 // import org.springframework.transaction.annotation.Transactional;
 import jakarta.transaction.Transactional;
 import org.springframework.http.HttpStatus;
@@ -27,10 +32,15 @@ import org.springframework.web.multipart.MultipartFile;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.imageio.ImageIO;
 
@@ -42,15 +52,41 @@ public class ItemService {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Autowired
     private AuctionServiceClient auctionServiceClient;
 
     @Autowired
-    private AuthenticationServiceClient authenticationServiceClient;
+    private CoalescingAuctionClient coalescingAuctionClient;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
 
     @Value("${image.upload.dir}")
     private String imageUploadDir;
 
+    @Value("${item.enrichment.threads:8}")
+    private int enrichmentThreads;
+
+    // Fetches auction details while the calling thread fetches seller names
+    private ExecutorService enrichmentExecutor;
+
+    @PostConstruct
+    public void startEnrichmentExecutor() {
+        enrichmentExecutor = Executors.newFixedThreadPool(enrichmentThreads, runnable -> {
+            Thread thread = new Thread(runnable, "item-enrichment");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stopEnrichmentExecutor() {
+        enrichmentExecutor.shutdownNow();
+    }
+
     private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
     private static final int RANDOM_ID_LENGTH = 8;
     private Random random = new Random();
@@ -63,10 +99,6 @@ public class ItemService {
         return sb.toString();
     }
 
-    public List<Item> getAllItems() {
-        return itemRepository.findAll();
-    }
-
     public Optional<Item> getItemById(Long id) {
         return itemRepository.findById(id);
     }
@@ -122,17 +154,26 @@ public class ItemService {
     }
 
     private String fetchSellerName(Long userId) {
-        try {
-            UserDTO userDTO = authenticationServiceClient.getUserById(userId);
-            if (userDTO != null && userDTO.getUsername() != null) {
-                return userDTO.getUsername();
+        return userProfileCache.getUser(userId)
+                .map(UserDTO::getUsername)
+                .orElse("Unknown");
+    }
+
+    /**
+     * Fetches the usernames of many sellers through the profile cache, with
+     * one batch call for all misses.
+     *
+     * @param userIds The seller IDs.
+     * @return Usernames by user ID; sellers that could not be resolved are absent.
+     */
+    private Map<Long, String> fetchSellerNames(Collection<Long> userIds) {
+        Map<Long, String> sellerNames = new HashMap<>();
+        userProfileCache.getUsers(userIds).forEach((userId, userDTO) -> {
+            if (userDTO.getUsername() != null) {
+                sellerNames.put(userId, userDTO.getUsername());
             }
-        } catch (UserNotFoundException e) {
-            logger.warn("User not found with ID: {}", userId);
-        } catch (Exception e) {
-            logger.error("Error fetching user with ID: {}", userId, e);
-        }
-        return "Unknown";
+        });
+        return sellerNames;
     }
 
     private ItemDTO mapToItemDTO(Item item, AuctionDTO auctionDTO, String sellerName) {
@@ -170,38 +211,92 @@ public class ItemService {
     }
 
     /**
-     * Retrieves all items with their auction details and seller's name.
+     * Retrieves one page of items with their auction details and seller's
+     * name, using keyset pagination on the item ID.
      *
-     * @return List of ItemDTOs.
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param limit  The maximum number of items to read.
+     * @return The page. It may hold fewer than limit items, as items without an auction are left out.
+     * @throws IllegalArgumentException if the cursor is malformed.
      */
-    public List<ItemDTO> getAllItemsWithDetails() {
-        List<Item> items = getAllItems();
-        List<ItemDTO> itemDTOs = new ArrayList<>();
+    public ItemPage getItemsPage(String cursor, int limit) {
+        long afterId = decodeCursor(cursor);
+        List<Item> items = transactionTemplate.execute(status -> {
+            List<Item> page = itemRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, limit));
+            // Load the images while the session is open, as the page is enriched outside the transaction
+            page.forEach(item -> item.getImageUrls().size());
+            return page;
+        });
+        String nextCursor = items.size() < limit ? null : encodeCursor(items.get(items.size() - 1).getId());
+        return new ItemPage(enrichItems(items), nextCursor);
+    }
 
-        for (Item item : items) {
-            try {
-                // Fetch auction details
-                ResponseEntity<AuctionDTO> auctionResponse = auctionServiceClient.getAuctionByItemId(item.getId());
-                AuctionDTO auctionDTO = null;
-                if (auctionResponse.getStatusCode() == HttpStatus.OK) {
-                    auctionDTO = auctionResponse.getBody();
-                }
+    private static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+    }
 
-                // Fetch seller's name
-                String sellerName = fetchSellerName(item.getListedBy());
+    private static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+
+    /**
+     * Adds auction details and seller names to a list of items. The auctions
+     * are fetched with one batch call per {@value AuctionServiceClient#MAX_BATCH_SIZE}
+     * items while the seller names are fetched concurrently, so a page costs
+     * two round trips whatever its size. Items without an auction are left out.
+     *
+     * @param items The items.
+     * @return ItemDTOs in the order of the items.
+     * @throws RuntimeException if the auction details could not be fetched.
+     */
+    private List<ItemDTO> enrichItems(List<Item> items) {
+        List<Long> itemIds = items.stream().map(Item::getId).toList();
+        CompletableFuture<Map<Long, AuctionDTO>> auctions =
+                CompletableFuture.supplyAsync(() -> fetchAuctions(itemIds), enrichmentExecutor);
+        Map<Long, String> sellerNames = fetchSellerNames(items.stream().map(Item::getListedBy).toList());
 
-                // Map to ItemDTO
-                ItemDTO itemDTO = mapToItemDTO(item, auctionDTO, sellerName);
-                itemDTOs.add(itemDTO);
-            } catch (Exception e) {
-                logger.error("Error fetching auction details for item ID: {}", item.getId(), e);
-                // Optionally, continue or handle differently
+        Map<Long, AuctionDTO> auctionsByItemId;
+        try {
+            auctionsByItemId = auctions.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
+            throw e;
         }
 
+        List<ItemDTO> itemDTOs = new ArrayList<>(items.size());
+        for (Item item : items) {
+            AuctionDTO auctionDTO = auctionsByItemId.get(item.getId());
+            if (auctionDTO == null) {
+                logger.warn("No auction found for item ID: {}", item.getId());
+                continue;
+            }
+            String sellerName = sellerNames.getOrDefault(item.getListedBy(), "Unknown");
+            itemDTOs.add(mapToItemDTO(item, auctionDTO, sellerName));
+        }
         return itemDTOs;
     }
 
+    private Map<Long, AuctionDTO> fetchAuctions(List<Long> itemIds) {
+        Map<Long, AuctionDTO> auctions = new HashMap<>();
+        for (int from = 0; from < itemIds.size(); from += AuctionServiceClient.MAX_BATCH_SIZE) {
+            List<Long> batch = itemIds.subList(from, Math.min(from + AuctionServiceClient.MAX_BATCH_SIZE, itemIds.size()));
+            for (AuctionDTO auctionDTO : auctionServiceClient.getAuctionsByItemIds(batch)) {
+                auctions.put(auctionDTO.getItemId(), auctionDTO);
+            }
+        }
+        return auctions;
+    }
+
     /**
      * Retrieves an Item with its auction details and seller's name.
      *
@@ -218,7 +313,7 @@ public class ItemService {
         Item item = itemOpt.get();
 
         // Fetch auction details
-        ResponseEntity<AuctionDTO> auctionResponse = auctionServiceClient.getAuctionByItemId(item.getId());
+        ResponseEntity<AuctionDTO> auctionResponse = coalescingAuctionClient.getAuctionByItemId(item.getId());
         AuctionDTO auctionDTO = null;
         if (auctionResponse.getStatusCode() == HttpStatus.OK) {
             auctionDTO = auctionResponse.getBody();
@@ -238,33 +333,10 @@ public class ItemService {
      *
      * @param userId The ID of the user.
      * @return List of ItemDTOs.
+     * @throws RuntimeException if the auction details could not be fetched.
      */
     public List<ItemDTO> getUserItemsWithDetails(Long userId) {
-        List<Item> items = getItemsByUser(userId);
-        List<ItemDTO> itemDTOs = new ArrayList<>();
-
-        for (Item item : items) {
-            try {
-                // Fetch auction details
-                ResponseEntity<AuctionDTO> auctionResponse = auctionServiceClient.getAuctionByItemId(item.getId());
-                AuctionDTO auctionDTO = null;
-                if (auctionResponse.getStatusCode() == HttpStatus.OK) {
-                    auctionDTO = auctionResponse.getBody();
-                }
-
-                // Fetch seller's name
-                String sellerName = fetchSellerName(item.getListedBy());
-
-                // Map to ItemDTO
-                ItemDTO itemDTO = mapToItemDTO(item, auctionDTO, sellerName);
-                itemDTOs.add(itemDTO);
-            } catch (Exception e) {
-                logger.error("Error fetching auction details for user item ID: {}", item.getId(), e);
-                // Optionally, continue or handle differently
-            }
-        }
-
-        return itemDTOs;
+        return enrichItems(getItemsByUser(userId));
     }
 
     /**
@@ -0,0 +1,132 @@
+package com.finalcall.catalogueservice.client;
+
+import com.finalcall.catalogueservice.dto.AuctionDTO;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingAuctionClientTest {
+
+    private static final int FOLLOWERS = 4;
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    private final FakeAuctionServiceClient auctionServiceClient = new FakeAuctionServiceClient();
+
+    @AfterEach
+    void stopCallers() {
+        auctionServiceClient.release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsForOneItemMakeOneFeignCall() throws Exception {
+        CoalescingAuctionClient client = new CoalescingAuctionClient(auctionServiceClient, true);
+
+        List<Future<ResponseEntity<AuctionDTO>>> results = callConcurrently(client, 7L);
+        awaitCollapsed(client, FOLLOWERS);
+        auctionServiceClient.release.countDown();
+
+        for (Future<ResponseEntity<AuctionDTO>> result : results) {
+            assertEquals(7L, result.get(5, TimeUnit.SECONDS).getBody().getItemId());
+        }
+        assertEquals(1, auctionServiceClient.calls.get());
+    }
+
+    @Test
+    void feignErrorsReachEveryWaiter() throws Exception {
+        CoalescingAuctionClient client = new CoalescingAuctionClient(auctionServiceClient, true);
+        Request request = Request.create(Request.HttpMethod.GET, "/api/auctions/item/7",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        auctionServiceClient.failure = new FeignException.ServiceUnavailable("Unavailable", request, null, Map.of());
+
+        List<Future<ResponseEntity<AuctionDTO>>> results = callConcurrently(client, 7L);
+        awaitCollapsed(client, FOLLOWERS);
+        auctionServiceClient.release.countDown();
+
+        for (Future<ResponseEntity<AuctionDTO>> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(auctionServiceClient.failure, e.getCause());
+        }
+        assertEquals(1, auctionServiceClient.calls.get());
+    }
+
+    @Test
+    void disabledClientCallsFeignEveryTime() {
+        CoalescingAuctionClient client = new CoalescingAuctionClient(auctionServiceClient, false);
+        auctionServiceClient.release.countDown();
+
+        client.getAuctionByItemId(7L);
+        client.getAuctionByItemId(7L);
+
+        assertEquals(2, auctionServiceClient.calls.get());
+    }
+
+    private List<Future<ResponseEntity<AuctionDTO>>> callConcurrently(CoalescingAuctionClient client, Long itemId) {
+        List<Future<ResponseEntity<AuctionDTO>>> results = new ArrayList<>();
+        for (int i = 0; i <= FOLLOWERS; i++) {
+            results.add(callers.submit(() -> client.getAuctionByItemId(itemId)));
+        }
+        return results;
+    }
+
+    private static void awaitCollapsed(CoalescingAuctionClient client, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((long) client.getStats().get(0).get("collapsed") < expected) {
+            assertTrue(System.nanoTime() < deadline, "callers did not join the call in flight");
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Holds every {@code getAuctionByItemId} call until released, then
+     * answers it or throws the configured failure.
+     */
+    private static class FakeAuctionServiceClient implements AuctionServiceClient {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile RuntimeException failure;
+
+        @Override
+        public ResponseEntity<AuctionDTO> getAuctionByItemId(Long itemId) {
+            calls.incrementAndGet();
+            try {
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            AuctionDTO auction = new AuctionDTO();
+            auction.setItemId(itemId);
+            return ResponseEntity.ok(auction);
+        }
+
+        @Override
+        public ResponseEntity<AuctionDTO> createAuction(AuctionDTO auctionDTO) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<AuctionDTO> getAuctionsByItemIds(Collection<Long> itemIds) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import React, { useEffect, useState, useContext } from 'react';
 import { AuthContext } from '../context/AuthContext';
 import { useNavigate } from 'react-router-dom';
 import { authFetch } from '../utils/authFetch';
+import { fetchAllItems } from '../utils/fetchAllItems';
 
 const AdminPanel = () => {
   const { user, logout } = useContext(AuthContext);
@@ -45,14 +46,12 @@ const AdminPanel = () => {
 
   const fetchItems = async () => {
     try {
-      const response = await authFetch('http://localhost:8082/api/items', {
+      const { items: data, error: errorMsg } = await fetchAllItems((url) => authFetch(url, {
         method: 'GET',
-      }, logout);
-      if (response.ok) {
-        const data = await response.json();
+      }, logout));
+      if (!errorMsg) {
         setItems(data);
       } else {
-        const errorMsg = await response.text();
         setError(errorMsg);
       }
     } catch (err) {
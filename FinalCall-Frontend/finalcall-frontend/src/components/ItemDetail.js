@@ -8,6 +8,20 @@ import { Link } from 'react-router-dom';
 import 'react-responsive-carousel/lib/styles/carousel.min.css';
 import { DragDropContext, Droppable, Draggable } from 'react-beautiful-dnd';
 
+// Dutch prices follow a fixed schedule, so they are computed locally rather than pushed every tick
+const dutchPriceAt = (auction, now = new Date()) => {
+  if (auction.status === 'ENDED' || !auction.startTime || !auction.priceDecrement) {
+    return auction.currentBidPrice;
+  }
+  const elapsedSeconds = Math.floor((now - parseISO(auction.startTime)) / 1000);
+  if (elapsedSeconds < 0) {
+    return auction.startingBidPrice;
+  }
+  const ticks = Math.floor(elapsedSeconds / (auction.priceTickSeconds || 60));
+  const price = Math.max(auction.minimumPrice || 0, auction.startingBidPrice - ticks * auction.priceDecrement);
+  return Math.round(price * 100) / 100;
+};
+
 const BiddingSection = ({ auction, user, timeLeft, onBidSubmit }) => {
   const [bidAmount, setBidAmount] = useState('');
   const [bidError, setBidError] = useState('');
@@ -43,22 +57,25 @@ const BiddingSection = ({ auction, user, timeLeft, onBidSubmit }) => {
   };
 
   if (auction.auctionType === 'DUTCH') {
+    const currentPrice = dutchPriceAt(auction);
     return (
       <div className="mt-4 p-4 border rounded bg-gray-50">
         <h3 className="text-xl font-semibold mb-2">Dutch Auction</h3>
-        <p className="mb-2">Current Price: ${auction.currentBidPrice.toFixed(2)}</p>
+        <p className="mb-2">Current Price: ${currentPrice.toFixed(2)}</p>
         {auction.priceDecrement && (
-          <p className="mb-2">Price decreases by ${auction.priceDecrement.toFixed(2)} every minute</p>
+          <p className="mb-2">
+            Price decreases by ${auction.priceDecrement.toFixed(2)} every {auction.priceTickSeconds || 60} seconds
+          </p>
         )}
         {auction.minimumPrice && (
           <p className="mb-2">Minimum Price: ${auction.minimumPrice.toFixed(2)}</p>
         )}
         <button
-          onClick={() => handleBid(auction.currentBidPrice)}
+          onClick={() => handleBid(currentPrice)}
           className="w-full px-4 py-2 bg-green-500 text-white rounded hover:bg-green-600 disabled:bg-gray-400"
           disabled={timeLeft === 'Auction Ended'}
         >
-          Buy Now at ${auction.currentBidPrice.toFixed(2)}
+          Buy Now at ${currentPrice.toFixed(2)}
         </button>
       </div>
     );
@@ -254,8 +271,9 @@ const ItemDetail = () => {
         throw new Error(`Bid must be higher than current bid ($${auction.currentBidPrice.toFixed(2)}).`);
       }
     } else if (auction.auctionType === 'DUTCH') {
-      if (parsedAmount !== auction.currentBidPrice) {
-        throw new Error(`Dutch auction requires exact current price ($${auction.currentBidPrice.toFixed(2)}).`);
+      const currentPrice = dutchPriceAt(auction);
+      if (parsedAmount !== currentPrice) {
+        throw new Error(`Dutch auction requires exact current price ($${currentPrice.toFixed(2)}).`);
       }
     }
 
@@ -275,7 +293,14 @@ const ItemDetail = () => {
 
       if (!response.ok) {
         const errorData = await response.text();
-        throw new Error(errorData);
+        let message = errorData;
+        try {
+          // Rejected bids come back as a BidResponse with an outcome of OUTBID, ENDED or REJECTED
+          message = JSON.parse(errorData).message || errorData;
+        } catch (parseError) {
+          // Plain-text error body
+        }
+        throw new Error(message);
       }
 
       await fetchItemDetails();
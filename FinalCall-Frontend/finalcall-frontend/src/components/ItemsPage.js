@@ -1,6 +1,7 @@
 import React, { useEffect, useState } from 'react';
 import { Link } from 'react-router-dom';
 import CountdownTimer from './CountdownTimer';
+import { fetchAllItems } from '../utils/fetchAllItems';
 
 const ItemsPage = () => {
   const [items, setItems] = useState([]);
@@ -14,12 +15,11 @@ const ItemsPage = () => {
   useEffect(() => {
     const fetchItems = async () => {
       try {
-        const response = await fetch('http://localhost:8082/api/items', {
+        const { items: data, error: errorMsg } = await fetchAllItems((url) => fetch(url, {
           method: 'GET',
-        });
+        }));
 
-        if (response.ok) {
-          const data = await response.json();
+        if (!errorMsg) {
           setItems(data);
           setError('');
 
@@ -40,7 +40,6 @@ const ItemsPage = () => {
 
           setBidCounts(countMap);
         } else {
-          const errorMsg = await response.text();
           setError(`Failed to fetch items: ${errorMsg}`);
           setItems([]);
         }
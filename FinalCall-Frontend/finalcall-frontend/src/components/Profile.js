@@ -48,13 +48,12 @@ const Profile = () => {
 
   const fetchUserItems = async () => {
     try {
-      const response = await authFetch(`http://localhost:8082/api/items`, {
+      const response = await authFetch(`http://localhost:8082/api/items/user/${userId}`, {
         method: 'GET',
       }, logout);
 
       if (response.ok) {
-        const allItems = await response.json();
-        const userItems = allItems.filter(item => item.listedBy.toString() === userId);
+        const userItems = await response.json();
         
         const now = new Date();
         
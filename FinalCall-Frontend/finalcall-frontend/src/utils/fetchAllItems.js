@@ -0,0 +1,25 @@
+// src/utils/fetchAllItems.js
+
+const ITEMS_URL = 'http://localhost:8082/api/items';
+const PAGE_SIZE = 200;
+
+// Fetches every item by following the listing's nextCursor one page at a time.
+// fetchPage is fetch or a wrapper around it such as authFetch.
+// Returns the items and, if a page failed, the error text it returned.
+export const fetchAllItems = async (fetchPage) => {
+  const items = [];
+  let cursor = null;
+  do {
+    const url = cursor
+      ? `${ITEMS_URL}?limit=${PAGE_SIZE}&cursor=${encodeURIComponent(cursor)}`
+      : `${ITEMS_URL}?limit=${PAGE_SIZE}`;
+    const response = await fetchPage(url);
+    if (!response.ok) {
+      return { items, error: await response.text() };
+    }
+    const page = await response.json();
+    items.push(...page.items);
+    cursor = page.nextCursor;
+  } while (cursor);
+  return { items, error: null };
+};